@@ -0,0 +1,583 @@
+package io.jenkins.plugins.casc.processor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * What {@code DataBoundConfigurator} finds by reflection about a class, found at build time instead.
+ * Anything which can't be mirrored exactly is rejected with an {@link UnsupportedException}, so a generated
+ * configurator never behaves differently from the reflective one.
+ */
+final class ConfiguratorModel {
+
+    // Same annotations as DataBoundConfigurator, by name as these are optional dependencies
+    private static final Set<String> NONNULL_ANNOTATIONS =
+            Set.of("jakarta.annotation.Nonnull", "javax.annotation.Nonnull");
+    private static final Set<String> NULLABLE_ANNOTATIONS =
+            Set.of("jakarta.annotation.Nullable", "javax.annotation.CheckForNull");
+    private static final Set<String> PARAMETERS_ARE_NONNULL_ANNOTATIONS =
+            Set.of("javax.annotation.ParametersAreNonnullByDefault");
+    private static final Set<String> POST_CONSTRUCT_ANNOTATIONS =
+            Set.of("jakarta.annotation.PostConstruct", "javax.annotation.PostConstruct");
+    private static final Set<String> DATA_BOUND_CONSTRUCTOR = Set.of("org.kohsuke.stapler.DataBoundConstructor");
+    private static final Set<String> EXPORTED = Set.of("org.kohsuke.stapler.export.Exported");
+    private static final Set<String> RESTRICTED = Set.of("org.kohsuke.accmod.Restricted");
+    private static final Set<String> DEPRECATED = Set.of("java.lang.Deprecated");
+
+    private static final String SECRET = "hudson.util.Secret";
+
+    /**
+     * A {@code DataBoundConstructor} parameter.
+     * @param cast type to cast the argument to
+     * @param typeLiteral class literal of the parameter type
+     * @param elementLiteral class literal of the collection elements, {@code null} for other parameters
+     * @param attribute attribute describing the parameter, {@code null} if it can't be described
+     */
+    record Argument(
+            String name,
+            String cast,
+            String typeLiteral,
+            String elementLiteral,
+            boolean required,
+            boolean secret,
+            Attribute attribute) {}
+
+    /**
+     * An attribute, as {@code BaseConfigurator.createAttribute} would create it.
+     * @param getter expression reading the attribute from {@code o}, {@code null} to read it by reflection
+     * @param setter statement writing {@code v} to {@code o}, {@code null} to write it by reflection
+     * @param restrictions class literals of the {@code Restricted} value
+     */
+    record Attribute(
+            String name,
+            String typeLiteral,
+            boolean describable,
+            boolean multiple,
+            boolean secret,
+            String getter,
+            String setter,
+            boolean deprecated,
+            List<String> restrictions) {}
+
+    private final Types types;
+    private final Elements elements;
+    private final TypeElement type;
+    private final List<ExecutableElement> methods = new ArrayList<>();
+
+    private final TypeMirror collection;
+    private final TypeMirror set;
+    private final TypeMirror sortedSet;
+    private final TypeMirror list;
+    private final TypeMirror map;
+    private final TypeMirror describable;
+    private final TypeMirror persistedList;
+
+    final String packageName;
+    final String simpleName;
+    final String target;
+    final List<Argument> arguments = new ArrayList<>();
+    final List<Attribute> attributes = new ArrayList<>();
+    final List<String> postConstructs = new ArrayList<>();
+
+    ConfiguratorModel(ProcessingEnvironment env, TypeElement type) throws UnsupportedException {
+        this.types = env.getTypeUtils();
+        this.elements = env.getElementUtils();
+        this.type = type;
+
+        collection = erasure("java.util.Collection");
+        set = erasure("java.util.Set");
+        sortedSet = erasure("java.util.SortedSet");
+        list = erasure("java.util.List");
+        map = erasure("java.util.Map");
+        describable = erasure("hudson.model.Describable");
+        persistedList = erasure("hudson.util.PersistedList");
+
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new UnsupportedException("it is abstract");
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new UnsupportedException("it has type parameters");
+        }
+        String name = type.getSimpleName().toString();
+        for (Element e = type; e.getKind().isClass() || e.getKind().isInterface(); e = e.getEnclosingElement()) {
+            if (e.getModifiers().contains(Modifier.PRIVATE)) {
+                throw new UnsupportedException(e + " is private");
+            }
+            if (e != type) {
+                name = e.getSimpleName() + "_" + name;
+            }
+            if (e.getEnclosingElement().getKind() != ElementKind.PACKAGE
+                    && !e.getModifiers().contains(Modifier.STATIC)) {
+                throw new UnsupportedException(e + " is an inner class");
+            }
+        }
+        packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        simpleName = name + ConfiguratorProcessor.SUFFIX;
+        target = type.getQualifiedName().toString();
+
+        // Class#getMethods
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            if (method.getModifiers().contains(Modifier.PUBLIC)
+                    && !method.getModifiers().contains(Modifier.STATIC)) {
+                methods.add(method);
+            }
+        }
+
+        describeArguments();
+        describeSetters();
+
+        for (ExecutableElement method : methods) {
+            if (method.getParameters().isEmpty() && hasAnnotation(method, POST_CONSTRUCT_ANNOTATIONS)) {
+                postConstructs.add(method.getSimpleName().toString());
+            }
+        }
+    }
+
+    /**
+     * Mirrors {@code DataBoundConfigurator.BindingPlan}.
+     */
+    private void describeArguments() throws UnsupportedException {
+        ExecutableElement constructor = null;
+        for (ExecutableElement c : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (c.getModifiers().contains(Modifier.PUBLIC) && hasAnnotation(c, DATA_BOUND_CONSTRUCTOR)) {
+                constructor = c;
+                break;
+            }
+        }
+        if (constructor == null) {
+            throw new UnsupportedException("it has no public @DataBoundConstructor");
+        }
+
+        final boolean nonnullByDefault = hasAnnotation(constructor, PARAMETERS_ARE_NONNULL_ANNOTATIONS)
+                || hasAnnotation(type, PARAMETERS_ARE_NONNULL_ANNOTATIONS);
+        final boolean packageNonnullByDefault =
+                hasAnnotation(elements.getPackageOf(type), PARAMETERS_ARE_NONNULL_ANNOTATIONS);
+
+        for (VariableElement parameter : constructor.getParameters()) {
+            final String name = parameter.getSimpleName().toString();
+            final TypeMirror t = parameter.asType();
+            if (mentionsTypeVariable(t)) {
+                throw new UnsupportedException("the type of parameter " + name + " has type variables");
+            }
+
+            String elementLiteral = null;
+            if (t.getKind() == TypeKind.ARRAY) {
+                throw new UnsupportedException("parameter " + name + " is an array");
+            } else if (t.getKind() == TypeKind.DECLARED && isSubtype(t, collection)) {
+                final TypeMirror erased = types.erasure(t);
+                if (!types.isSameType(erased, list)
+                        && !types.isSameType(erased, set)
+                        && !types.isSameType(erased, collection)) {
+                    throw new UnsupportedException("parameter " + name + " isn't a List, Set or Collection");
+                }
+                elementLiteral = literal(componentType(name, t));
+            } else if (t.getKind() != TypeKind.DECLARED && !t.getKind().isPrimitive()) {
+                throw new UnsupportedException("parameter " + name + " has an unsupported type " + t);
+            }
+
+            final boolean required = hasAnnotation(parameter, NONNULL_ANNOTATIONS)
+                    || nonnullByDefault
+                    || packageNonnullByDefault && !hasAnnotation(parameter, NULLABLE_ANNOTATIONS);
+            final boolean secret = isSecret(name, t);
+
+            arguments.add(new Argument(
+                    name,
+                    cast(t),
+                    literal(t),
+                    elementLiteral,
+                    required,
+                    secret,
+                    createAttribute(name, t, getter(name), null, secret, false, List.of())));
+        }
+    }
+
+    /**
+     * Mirrors {@code BaseConfigurator#describe()}.
+     */
+    private void describeSetters() throws UnsupportedException {
+        for (VariableElement field : ElementFilter.fieldsIn(elements.getAllMembers(type))) {
+            if (field.getModifiers().contains(Modifier.PUBLIC) && isSubtype(field.asType(), persistedList)) {
+                throw new UnsupportedException("field " + field.getSimpleName() + " is a PersistedList");
+            }
+        }
+
+        final Map<String, List<ExecutableElement>> settersByProperty = new LinkedHashMap<>();
+        for (ExecutableElement method : methods) {
+            final String methodName = method.getSimpleName().toString();
+            if (method.getParameters().isEmpty()
+                    && methodName.startsWith("get")
+                    && isSubtype(method.getReturnType(), persistedList)) {
+                throw new UnsupportedException(methodName + " returns a PersistedList");
+            }
+            if (method.getParameters().size() == 1 && methodName.startsWith("set") && methodName.length() > 3) {
+                settersByProperty
+                        .computeIfAbsent(methodName.substring(3), k -> new ArrayList<>())
+                        .add(method);
+            }
+        }
+
+        for (Map.Entry<String, List<ExecutableElement>> entry : settersByProperty.entrySet()) {
+            final String propertySuffix = entry.getKey();
+            final String name = Character.toLowerCase(propertySuffix.charAt(0)) + propertySuffix.substring(1);
+
+            final ExecutableElement g = findGetter(propertySuffix);
+            if (g == null) {
+                continue;
+            }
+            if (entry.getValue().size() > 1) {
+                throw new UnsupportedException("setter of " + name + " is overloaded");
+            }
+
+            final ExecutableElement setter = entry.getValue().get(0);
+            final TypeMirror parameterType = setter.getParameters().get(0).asType();
+            if (mentionsTypeVariable(parameterType)) {
+                throw new UnsupportedException("the type of attribute " + name + " has type variables");
+            }
+            if (isSubtype(parameterType, map)) {
+                // not supported by BaseConfigurator either
+                continue;
+            }
+
+            // untyped setters of collections rely on the type of the getter
+            TypeMirror t = parameterType;
+            if (isMultiple(t) && isUntyped(t)) {
+                final TypeMirror getterType = g.getReturnType();
+                if (!isUntyped(getterType)
+                        && isSubtype(types.erasure(getterType), types.erasure(parameterType))
+                        && !mentionsTypeVariable(getterType)) {
+                    t = getterType;
+                }
+            }
+
+            final String setterName = setter.getSimpleName().toString();
+            final String cast = cast(parameterType);
+            final String write;
+            if (parameterType.getKind() == TypeKind.ARRAY) {
+                final String component = cast(((ArrayType) parameterType).getComponentType());
+                write = "o." + setterName + "(v instanceof java.util.Collection ? ((java.util.Collection<?>) v)"
+                        + ".toArray(new " + component + "[0]) : (" + cast + ") v)";
+            } else if (isSubtype(parameterType, sortedSet)) {
+                write = "o." + setterName + "((" + cast + ") (v instanceof java.util.Collection ? "
+                        + "new java.util.TreeSet<>((java.util.Collection<?>) v) : v))";
+            } else if (isSubtype(parameterType, set)) {
+                write = "o." + setterName + "((" + cast + ") (v instanceof java.util.Collection ? "
+                        + "new java.util.LinkedHashSet<>((java.util.Collection<?>) v) : v))";
+            } else {
+                write = "o." + setterName + "((" + cast + ") v)";
+            }
+
+            final Attribute attribute = createAttribute(
+                    name,
+                    t,
+                    getter(name),
+                    write,
+                    isSecret(name, t),
+                    hasAnnotation(setter, DEPRECATED),
+                    restrictions(setter));
+            if (attribute != null) {
+                attributes.add(attribute);
+            }
+        }
+    }
+
+    /**
+     * Mirrors {@code BaseConfigurator#createAttribute}.
+     */
+    private Attribute createAttribute(
+            String name,
+            TypeMirror t,
+            String getter,
+            String setter,
+            boolean secret,
+            boolean deprecated,
+            List<String> restrictions)
+            throws UnsupportedException {
+        if (isSubtype(t, persistedList)) {
+            throw new UnsupportedException("attribute " + name + " is a PersistedList");
+        }
+        final boolean multiple = isMultiple(t);
+        final TypeMirror c = multiple ? componentType(name, t) : t;
+
+        boolean describableAttribute = false;
+        if (c.getKind() == TypeKind.DECLARED) {
+            final TypeElement e = (TypeElement) types.asElement(c);
+            if (e.getKind() != ElementKind.ENUM
+                    && (e.getKind().isInterface() || e.getModifiers().contains(Modifier.ABSTRACT))) {
+                if (!isSubtype(c, describable)) {
+                    // Not a Describable, so we don't know how to detect concrete implementation type
+                    return null;
+                }
+                describableAttribute = true;
+            }
+        }
+        return new Attribute(
+                name, literal(c), describableAttribute, multiple, secret, getter, setter, deprecated, restrictions);
+    }
+
+    /**
+     * Mirrors {@code BaseConfigurator#getComponentType}, for the types where it is unambiguous.
+     */
+    private TypeMirror componentType(String name, TypeMirror t) throws UnsupportedException {
+        TypeMirror c = null;
+        if (t.getKind() == TypeKind.ARRAY) {
+            c = ((ArrayType) t).getComponentType();
+        } else if (t.getKind() == TypeKind.DECLARED && ((DeclaredType) t).getTypeArguments().size() == 1) {
+            c = ((DeclaredType) t).getTypeArguments().get(0);
+            if (c.getKind() == TypeKind.WILDCARD) {
+                c = ((WildcardType) c).getExtendsBound();
+            }
+        }
+        if (c == null
+                || c.getKind() != TypeKind.DECLARED
+                || !((DeclaredType) c).getTypeArguments().isEmpty()) {
+            throw new UnsupportedException("the element type of " + name + " can't be determined from " + t);
+        }
+        return c;
+    }
+
+    private boolean isMultiple(TypeMirror t) {
+        return t.getKind() == TypeKind.ARRAY || isSubtype(t, collection);
+    }
+
+    private boolean isUntyped(TypeMirror t) {
+        if (t.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        final List<? extends TypeMirror> arguments = ((DeclaredType) t).getTypeArguments();
+        return arguments.isEmpty()
+                || arguments.get(0).getKind() == TypeKind.DECLARED
+                        && ((TypeElement) types.asElement(arguments.get(0)))
+                                .getQualifiedName()
+                                .contentEquals("java.lang.Object");
+    }
+
+    /**
+     * Mirrors {@code BaseConfigurator#findGetter}.
+     */
+    private ExecutableElement findGetter(String propertySuffix) {
+        ExecutableElement is = null;
+        for (ExecutableElement m : methods) {
+            if (!m.getParameters().isEmpty()) {
+                continue;
+            }
+            final String methodName = m.getSimpleName().toString();
+            if (methodName.equals("get" + propertySuffix)) {
+                return m;
+            }
+            if (methodName.equals("is" + propertySuffix)
+                    && (m.getReturnType().getKind() == TypeKind.BOOLEAN
+                            || isType(m.getReturnType(), "java.lang.Boolean"))) {
+                is = m;
+            }
+        }
+        return is;
+    }
+
+    /**
+     * Mirrors {@code Attribute#locateGetter}.
+     */
+    private ExecutableElement locateGetter(String name) {
+        final String upname = Character.toTitleCase(name.charAt(0)) + name.substring(1);
+        ExecutableElement is = null;
+        ExecutableElement exported = null;
+        for (ExecutableElement m : methods) {
+            if (!m.getParameters().isEmpty()) {
+                continue;
+            }
+            final String methodName = m.getSimpleName().toString();
+            if (methodName.equals("get" + upname)) {
+                return m;
+            }
+            if (methodName.equals("is" + upname)) {
+                is = m;
+            } else if (exported == null && name.equalsIgnoreCase((String) annotationValue(m, EXPORTED, "name"))) {
+                exported = m;
+            }
+        }
+        return is != null ? is : exported;
+    }
+
+    /**
+     * Mirrors {@code Attribute#_getValue}.
+     * @return expression reading attribute {@code name} from {@code o}, {@code null} if it has to be read by reflection
+     */
+    private String getter(String name) {
+        final ExecutableElement method = locateGetter(name);
+        if (method != null) {
+            return method.getReturnType().getKind() == TypeKind.VOID ? null : "o." + method.getSimpleName() + "()";
+        }
+        final VariableElement field = publicField(name);
+        // other fields are read by reflection, as Attribute does
+        return field != null ? "o." + name : null;
+    }
+
+    /**
+     * Mirrors {@code Attribute#calculateIfSecret}.
+     */
+    private boolean isSecret(String name, TypeMirror t) {
+        if (isType(t, SECRET)) {
+            return true;
+        }
+        final ExecutableElement getter = locateGetter(name);
+        if (getter != null && isType(getter.getReturnType(), SECRET)) {
+            return true;
+        }
+        final VariableElement publicField = publicField(name);
+        if (publicField != null && isType(publicField.asType(), SECRET)) {
+            return true;
+        }
+        final VariableElement field = fieldInHierarchy(name);
+        if (field != null && isType(field.asType(), SECRET)) {
+            return true;
+        }
+        final String setterName = "set" + Character.toTitleCase(name.charAt(0)) + name.substring(1);
+        for (ExecutableElement m : methods) {
+            if (m.getSimpleName().contentEquals(setterName)
+                    && m.getParameters().size() == 1
+                    && isType(m.getParameters().get(0).asType(), SECRET)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private VariableElement publicField(String name) {
+        for (VariableElement field : ElementFilter.fieldsIn(elements.getAllMembers(type))) {
+            if (field.getSimpleName().contentEquals(name) && field.getModifiers().contains(Modifier.PUBLIC)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Mirrors {@code ExtraFieldUtils#getFieldNoForce}, but for superclasses only.
+     */
+    private VariableElement fieldInHierarchy(String name) {
+        for (TypeElement c = type; c != null; c = superclass(c)) {
+            for (VariableElement field : ElementFilter.fieldsIn(c.getEnclosedElements())) {
+                if (field.getSimpleName().contentEquals(name)) {
+                    return field;
+                }
+            }
+        }
+        return null;
+    }
+
+    private TypeElement superclass(TypeElement c) {
+        final TypeMirror superclass = c.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED ? (TypeElement) types.asElement(superclass) : null;
+    }
+
+    private List<String> restrictions(Element element) {
+        final List<String> restrictions = new ArrayList<>();
+        final Object value = annotationValue(element, RESTRICTED, "value");
+        if (value instanceof List<?> values) {
+            for (Object v : values) {
+                final Object restriction = ((AnnotationValue) v).getValue();
+                if (restriction instanceof DeclaredType d) {
+                    restrictions.add(literal(d));
+                }
+            }
+        }
+        return restrictions;
+    }
+
+    private static Object annotationValue(Element element, Set<String> annotation, String name) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (annotation.contains(qualifiedName(mirror.getAnnotationType()))) {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+                        mirror.getElementValues().entrySet()) {
+                    if (entry.getKey().getSimpleName().contentEquals(name)) {
+                        return entry.getValue().getValue();
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasAnnotation(Element element, Set<String> annotationNames) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (annotationNames.contains(qualifiedName(mirror.getAnnotationType()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String qualifiedName(DeclaredType t) {
+        return ((TypeElement) t.asElement()).getQualifiedName().toString();
+    }
+
+    private static boolean mentionsTypeVariable(TypeMirror t) {
+        return switch (t.getKind()) {
+            case TYPEVAR -> true;
+            case ARRAY -> mentionsTypeVariable(((ArrayType) t).getComponentType());
+            case WILDCARD -> {
+                final WildcardType w = (WildcardType) t;
+                yield w.getExtendsBound() != null && mentionsTypeVariable(w.getExtendsBound())
+                        || w.getSuperBound() != null && mentionsTypeVariable(w.getSuperBound());
+            }
+            case DECLARED -> ((DeclaredType) t)
+                    .getTypeArguments().stream().anyMatch(ConfiguratorModel::mentionsTypeVariable);
+            default -> false;
+        };
+    }
+
+    private TypeMirror erasure(String name) {
+        final TypeElement e = elements.getTypeElement(name);
+        return e != null ? types.erasure(e.asType()) : null;
+    }
+
+    private boolean isSubtype(TypeMirror t, TypeMirror erased) {
+        return erased != null
+                && (t.getKind() == TypeKind.DECLARED || t.getKind() == TypeKind.ARRAY)
+                && types.isAssignable(types.erasure(t), erased);
+    }
+
+    private static boolean isType(TypeMirror t, String name) {
+        return t.getKind() == TypeKind.DECLARED && qualifiedName((DeclaredType) t).equals(name);
+    }
+
+    /**
+     * @return source of a class literal for the erasure of a type
+     */
+    private String literal(TypeMirror t) {
+        return cast(t) + ".class";
+    }
+
+    /**
+     * @return source of the erasure of a type
+     */
+    private String cast(TypeMirror t) {
+        if (t.getKind().isPrimitive()) {
+            return t.getKind().name().toLowerCase(Locale.ROOT);
+        }
+        if (t.getKind() == TypeKind.ARRAY) {
+            return cast(((ArrayType) t).getComponentType()) + "[]";
+        }
+        return qualifiedName((DeclaredType) types.erasure(t));
+    }
+}
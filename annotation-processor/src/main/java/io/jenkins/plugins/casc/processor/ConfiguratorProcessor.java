@@ -0,0 +1,198 @@
+package io.jenkins.plugins.casc.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates a configurator for each class annotated with {@code io.jenkins.plugins.casc.GenerateConfigurator}.
+ * <p>
+ * Generated configurators extend {@code GeneratedConfigurator}, and do what {@code DataBoundConfigurator} does with
+ * direct constructor, setter and getter calls, and a precomputed attribute table. Classes using anything which can't
+ * be mirrored exactly are reported with a warning, and keep being configured by reflection.
+ */
+@SupportedAnnotationTypes(ConfiguratorProcessor.GENERATE_CONFIGURATOR)
+public class ConfiguratorProcessor extends AbstractProcessor {
+
+    static final String GENERATE_CONFIGURATOR = "io.jenkins.plugins.casc.GenerateConfigurator";
+
+    /**
+     * Same as {@code GeneratedConfigurator#SUFFIX}.
+     */
+    static final String SUFFIX = "_CascConfigurator";
+
+    private static final String ATTRIBUTE = "io.jenkins.plugins.casc.Attribute";
+    private static final String DESCRIBABLE_ATTRIBUTE = "io.jenkins.plugins.casc.impl.attributes.DescribableAttribute";
+    private static final String GENERATED_CONFIGURATOR =
+            "io.jenkins.plugins.casc.impl.configurators.GeneratedConfigurator";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.CLASS) {
+                    processingEnv
+                            .getMessager()
+                            .printMessage(
+                                    Diagnostic.Kind.ERROR, "@GenerateConfigurator only applies to classes", element);
+                    continue;
+                }
+                final TypeElement type = (TypeElement) element;
+                try {
+                    write(new ConfiguratorModel(processingEnv, type), type);
+                } catch (UnsupportedException e) {
+                    processingEnv
+                            .getMessager()
+                            .printMessage(
+                                    Diagnostic.Kind.WARNING,
+                                    "No configurator generated, " + type + " will be configured by reflection, as "
+                                            + e.getMessage(),
+                                    element);
+                } catch (IOException e) {
+                    processingEnv
+                            .getMessager()
+                            .printMessage(
+                                    Diagnostic.Kind.ERROR,
+                                    "Failed to write the configurator of " + type + ": " + e,
+                                    element);
+                }
+            }
+        }
+        return true;
+    }
+
+    private void write(ConfiguratorModel model, TypeElement type) throws IOException {
+        final String name = model.packageName.isEmpty() ? model.simpleName : model.packageName + "." + model.simpleName;
+        final String target = model.target;
+        final String attribute = ATTRIBUTE + "<" + target + ", ?>";
+
+        try (PrintWriter w = new PrintWriter(
+                processingEnv.getFiler().createSourceFile(name, type).openWriter())) {
+            if (!model.packageName.isEmpty()) {
+                w.println("package " + model.packageName + ";");
+                w.println();
+            }
+            w.println("@javax.annotation.processing.Generated(\"" + ConfiguratorProcessor.class.getName() + "\")");
+            w.println("@SuppressWarnings({\"unchecked\", \"rawtypes\", \"deprecation\"})");
+            w.println("public final class " + model.simpleName + " extends " + GENERATED_CONFIGURATOR + "<" + target
+                    + "> {");
+            w.println();
+
+            w.println("    public " + model.simpleName + "() {");
+            final List<String> arguments = new ArrayList<>();
+            for (ConfiguratorModel.Argument argument : model.arguments) {
+                arguments.add("new " + GENERATED_CONFIGURATOR + ".Argument(\"" + argument.name() + "\", "
+                        + argument.typeLiteral() + ", " + argument.elementLiteral() + ", " + argument.required() + ", "
+                        + argument.secret() + ")");
+            }
+            w.println("        super(" + target + ".class, java.util.List.of(" + list(arguments) + "));");
+            w.println("    }");
+            w.println();
+
+            w.println("    @Override");
+            w.println("    protected " + target + " construct(Object[] args) {");
+            final List<String> casts = new ArrayList<>();
+            for (int i = 0; i < model.arguments.size(); i++) {
+                casts.add("(" + model.arguments.get(i).cast() + ") args[" + i + "]");
+            }
+            w.println("        return new " + target + "(" + String.join(", ", casts) + ");");
+            w.println("    }");
+            w.println();
+
+            w.println("    @Override");
+            w.println("    protected java.util.Set<" + attribute + "> attributes() {");
+            w.println("        final java.util.Set<" + attribute + "> attributes = new java.util.HashSet<>();");
+            for (ConfiguratorModel.Attribute a : model.attributes) {
+                w.println("        attributes.add(" + attribute(a, target) + ");");
+            }
+            w.println("        return attributes;");
+            w.println("    }");
+            w.println();
+
+            w.println("    @Override");
+            w.println("    protected java.util.List<" + attribute + "> argumentAttributes() {");
+            final List<String> argumentAttributes = new ArrayList<>();
+            for (ConfiguratorModel.Argument argument : model.arguments) {
+                argumentAttributes.add(argument.attribute() != null ? attribute(argument.attribute(), target) : "null");
+            }
+            w.println("        return java.util.Arrays.asList(" + list(argumentAttributes) + ");");
+            w.println("    }");
+
+            if (!model.postConstructs.isEmpty()) {
+                w.println();
+                w.println("    @Override");
+                w.println("    protected void postConstruct(" + target
+                        + " object) throws io.jenkins.plugins.casc.ConfiguratorException {");
+                for (String method : model.postConstructs) {
+                    w.println("        try {");
+                    w.println("            object." + method + "();");
+                    w.println("        } catch (Exception e) {");
+                    w.println("            throw new io.jenkins.plugins.casc.ConfiguratorException(");
+                    w.println("                    this, \"Failed to invoke configurator method " + method + "\", e);");
+                    w.println("        }");
+                }
+                w.println("    }");
+            }
+            w.println("}");
+        }
+    }
+
+    /**
+     * @return list of expressions, one per line
+     */
+    private static String list(List<String> expressions) {
+        return expressions.isEmpty() ? "" : "\n                " + String.join(",\n                ", expressions);
+    }
+
+    /**
+     * @return expression creating an attribute, same as {@code BaseConfigurator#createAttribute}
+     */
+    private static String attribute(ConfiguratorModel.Attribute a, String target) {
+        final StringBuilder s = new StringBuilder("new ")
+                .append(a.describable() ? DESCRIBABLE_ATTRIBUTE : ATTRIBUTE)
+                .append('<')
+                .append(target)
+                .append(", Object>(\"")
+                .append(a.name())
+                .append("\", ")
+                .append(a.typeLiteral())
+                .append(')');
+        if (a.multiple()) {
+            s.append(".multiple(true)");
+        }
+        if (a.secret()) {
+            s.append(".secret(true)");
+        }
+        if (a.getter() != null) {
+            s.append(".getter(o -> ").append(a.getter()).append(')');
+        }
+        if (a.setter() != null) {
+            s.append(".setter((o, v) -> ").append(a.setter()).append(')');
+        }
+        // these return raw attributes, so come last
+        if (a.deprecated()) {
+            s.append(".deprecated(true)");
+        }
+        if (!a.restrictions().isEmpty()) {
+            s.append(".restrictions(new Class[] {")
+                    .append(String.join(", ", a.restrictions()))
+                    .append("})");
+        }
+        return s.toString();
+    }
+}
@@ -0,0 +1,12 @@
+package io.jenkins.plugins.casc.processor;
+
+/**
+ * A class annotated with {@code GenerateConfigurator} can't have a configurator generated, and keeps being configured
+ * by reflection.
+ */
+final class UnsupportedException extends Exception {
+
+    UnsupportedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,225 @@
+package io.jenkins.plugins.casc.processor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.jenkins.plugins.casc.Attribute;
+import io.jenkins.plugins.casc.impl.configurators.DataBoundConfigurator;
+import io.jenkins.plugins.casc.impl.configurators.GeneratedConfigurator;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ConfiguratorProcessorTest {
+
+    @TempDir
+    private Path output;
+
+    private final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void generatedAttributesAreTheReflectiveOnes() throws Exception {
+        final ClassLoader loader = compile(
+                "sample.Sample",
+                """
+                package sample;
+
+                import hudson.util.Secret;
+                import java.util.List;
+                import java.util.Set;
+                import java.util.SortedSet;
+                import javax.annotation.Nonnull;
+                import javax.annotation.PostConstruct;
+                import org.kohsuke.accmod.Restricted;
+                import org.kohsuke.accmod.restrictions.NoExternalUse;
+                import org.kohsuke.stapler.DataBoundConstructor;
+                import org.kohsuke.stapler.DataBoundSetter;
+
+                @io.jenkins.plugins.casc.GenerateConfigurator
+                public class Sample {
+                    public enum Mode { FAST, SLOW }
+
+                    private final String name;
+                    private final int count;
+                    private final List<String> tags;
+                    private Secret password;
+                    private Set<String> labels;
+                    private SortedSet<String> sorted;
+                    private String[] array;
+                    private Mode mode;
+                    private boolean enabled;
+                    public boolean initialized;
+
+                    @DataBoundConstructor
+                    public Sample(@Nonnull String name, int count, List<? extends String> tags) {
+                        this.name = name;
+                        this.count = count;
+                        this.tags = tags != null ? List.copyOf(tags) : null;
+                    }
+
+                    public String getName() { return name; }
+                    public int getCount() { return count; }
+                    public List<String> getTags() { return tags; }
+                    public Secret getPassword() { return password; }
+                    @DataBoundSetter public void setPassword(Secret password) { this.password = password; }
+                    public Set<String> getLabels() { return labels; }
+                    @DataBoundSetter public void setLabels(Set<String> labels) { this.labels = labels; }
+                    public SortedSet<String> getSorted() { return sorted; }
+                    @Deprecated @DataBoundSetter public void setSorted(SortedSet<String> s) { sorted = s; }
+                    public String[] getArray() { return array; }
+                    @Restricted(NoExternalUse.class) @DataBoundSetter public void setArray(String[] a) { array = a; }
+                    public Mode getMode() { return mode; }
+                    @DataBoundSetter public void setMode(Mode mode) { this.mode = mode; }
+                    public boolean isEnabled() { return enabled; }
+                    @DataBoundSetter public void setEnabled(boolean enabled) { this.enabled = enabled; }
+                    public Runnable getRunnable() { return null; }
+                    public void setRunnable(Runnable runnable) {}
+                    @PostConstruct public void init() { initialized = true; }
+                }
+                """);
+        assertEquals(List.of(), messages(Diagnostic.Kind.WARNING));
+        assertEquals(List.of(), messages(Diagnostic.Kind.ERROR));
+
+        final Class<Object> target = (Class<Object>) loader.loadClass("sample.Sample");
+        final GeneratedConfigurator<Object> generated = GeneratedConfigurator.load(target);
+        assertInstanceOf(GeneratedConfigurator.class, generated);
+        final DataBoundConfigurator<Object> reflective = new DataBoundConfigurator<>(target);
+
+        final Object instance = target.getConstructor(String.class, int.class, List.class)
+                .newInstance("sample", 3, List.of("a", "b"));
+        final Map<String, String> expected = describe(reflective.describe(), instance);
+        assertEquals(expected, describe(generated.describe(), instance));
+        assertThat(expected.keySet(), hasItem("name"));
+        assertFalse(expected.containsKey("runnable"), "abstract non-Describable attributes are ignored");
+
+        // setters are called directly, with the same conversions
+        for (Attribute<Object, ?> attribute : generated.describe()) {
+            if (attribute.getName().equals("labels")
+                    || attribute.getName().equals("sorted")
+                    || attribute.getName().equals("array")) {
+                ((Attribute<Object, Object>) attribute).setValue(instance, List.of("z", "y"));
+            }
+        }
+        assertEquals(List.of("z", "y"), List.copyOf((Set<?>) target.getMethod("getLabels").invoke(instance)));
+        assertEquals(List.of("y", "z"), List.copyOf((Set<?>) target.getMethod("getSorted").invoke(instance)));
+        assertEquals(List.of("z", "y"), Arrays.asList((Object[]) target.getMethod("getArray").invoke(instance)));
+    }
+
+    @Test
+    void unsupportedClassesAreConfiguredByReflection() throws Exception {
+        final ClassLoader loader = compile(
+                "sample.Generic",
+                """
+                package sample;
+
+                @io.jenkins.plugins.casc.GenerateConfigurator
+                public class Generic<T> {
+                    @org.kohsuke.stapler.DataBoundConstructor
+                    public Generic(T value) {}
+                }
+                """);
+
+        assertThat(
+                messages(Diagnostic.Kind.WARNING),
+                hasItem(containsString("sample.Generic will be configured by reflection")));
+        assertNull(GeneratedConfigurator.load(loader.loadClass("sample.Generic")));
+    }
+
+    @Test
+    void onlyClassesCanBeAnnotated() throws Exception {
+        compile(
+                "sample.NotAClass",
+                """
+                package sample;
+
+                @io.jenkins.plugins.casc.GenerateConfigurator
+                public interface NotAClass {}
+                """);
+
+        assertThat(messages(Diagnostic.Kind.ERROR), hasItem(containsString("only applies to classes")));
+    }
+
+    /**
+     * Attribute properties which should be the same whether an attribute is found by reflection or generated.
+     */
+    private static Map<String, String> describe(Set<Attribute<Object, ?>> attributes, Object instance)
+            throws Exception {
+        final Map<String, String> described = new TreeMap<>();
+        for (Attribute<Object, ?> attribute : attributes) {
+            Object value = attribute.getValue(instance);
+            if (value instanceof Object[] array) {
+                value = Arrays.asList(array);
+            }
+            described.put(
+                    attribute.getName(),
+                    attribute.getClass().getSimpleName() + " " + attribute.getType().getName()
+                            + " multiple=" + attribute.isMultiple()
+                            + " secret=" + attribute.isSecret(instance)
+                            + " deprecated=" + attribute.isDeprecated()
+                            + " restrictions=" + Arrays.toString(attribute.getRestrictions())
+                            + " value=" + value);
+        }
+        return described;
+    }
+
+    private List<String> messages(Diagnostic.Kind kind) {
+        final List<String> messages = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == kind) {
+                messages.add(diagnostic.getMessage(null));
+            }
+        }
+        return messages;
+    }
+
+    private ClassLoader compile(String className, String source) throws Exception {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final JavaFileObject file =
+                new SimpleJavaFileObject(
+                        URI.create("string:///" + className.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+                    @Override
+                    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                        return source;
+                    }
+                };
+        final JavaCompiler.CompilationTask task = compiler.getTask(
+                null,
+                null,
+                diagnostics,
+                List.of(
+                        "-parameters",
+                        "-classpath",
+                        System.getProperty("java.class.path"),
+                        "-d",
+                        output.toString(),
+                        "-s",
+                        Files.createDirectories(output.resolve("generated")).toString()),
+                null,
+                List.of(file));
+        task.setProcessors(List.of(new ConfiguratorProcessor()));
+        task.call();
+        return new URLClassLoader(new URL[] {output.toUri().toURL()}, getClass().getClassLoader());
+    }
+}
@@ -0,0 +1,356 @@
+package io.jenkins.plugins.casc;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.PluginWrapper;
+import hudson.Util;
+import hudson.XmlFile;
+import hudson.model.Saveable;
+import hudson.model.listeners.SaveableListener;
+import io.jenkins.plugins.casc.model.CNode;
+import io.jenkins.plugins.casc.model.Mapping;
+import io.jenkins.plugins.casc.model.Scalar;
+import io.jenkins.plugins.casc.yaml.StreamedSequence;
+import io.jenkins.plugins.casc.yaml.YamlSource;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.crypto.Mac;
+import jenkins.model.Jenkins;
+import jenkins.security.HMACConfidentialKey;
+import org.apache.commons.lang3.StringUtils;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Describes the last configuration successfully applied, so restarting with the same configuration can skip
+ * checking and applying it again.
+ *
+ * The manifest holds digests of the configuration sources, a MAC of the merged configuration with variables
+ * resolved, the versions of Jenkins and of the active plugins, and digests of the XML files saved while applying the
+ * configuration. Configuration is only skipped on startup if all of them still match, and only if enabled, as some
+ * configurators set state which isn't persisted. The merged configuration is authenticated with a key of this
+ * instance rather than digested, as it includes resolved secrets which could otherwise be guessed from the manifest.
+ */
+@Restricted(NoExternalUse.class)
+public final class AppliedConfigurationManifest {
+
+    private static final Logger LOGGER = Logger.getLogger(AppliedConfigurationManifest.class.getName());
+
+    /**
+     * {@code true} to skip applying configuration on startup when it didn't change since last applied.
+     */
+    public static final String SKIP_UNCHANGED_PROPERTY = "casc.apply.skipUnchanged";
+
+    public static final String CASC_APPLY_SKIP_UNCHANGED_ENV = "CASC_APPLY_SKIP_UNCHANGED";
+
+    /**
+     * {@code true} to apply configuration on startup even though it didn't change since last applied.
+     */
+    public static final String FORCE_PROPERTY = "casc.apply.force";
+
+    public static final String CASC_APPLY_FORCE_ENV = "CASC_APPLY_FORCE";
+
+    static final String FILE_NAME = "io.jenkins.plugins.casc.AppliedConfigurationManifest.xml";
+
+    private static final HMACConfidentialKey MODEL_KEY =
+            new HMACConfidentialKey(AppliedConfigurationManifest.class, "model");
+
+    /**
+     * Files saved while applying configuration, {@code null} when not applying any.
+     */
+    @CheckForNull
+    private static volatile Set<File> recording;
+
+    private String jenkins;
+    private Map<String, String> plugins;
+    private Map<String, String> sources;
+    private String model;
+    private Map<String, String> files;
+
+    /**
+     * @return {@code true} if configuration left unchanged may be skipped on startup
+     */
+    public static boolean isSkipUnchangedEnabled() {
+        return isSet(SKIP_UNCHANGED_PROPERTY, CASC_APPLY_SKIP_UNCHANGED_ENV);
+    }
+
+    /**
+     * @return {@code true} if configuration must be applied on startup, whether it changed or not
+     */
+    public static boolean isForced() {
+        return isSet(FORCE_PROPERTY, CASC_APPLY_FORCE_ENV);
+    }
+
+    private static boolean isSet(String property, String env) {
+        final String value = Util.fixEmptyAndTrim(System.getProperty(property, System.getenv(env)));
+        return Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Describe a configuration about to be applied. Must be called before applying it, as applying consumes entries.
+     *
+     * @param sources sources the configuration was read from
+     * @param entries merged configuration
+     * @param context context the configuration is applied with, to resolve variables
+     * @return manifest without files, or {@code null} if the configuration can't be described, e.g. as a secret can't
+     * be resolved, in which case it must always be applied
+     */
+    @CheckForNull
+    static AppliedConfigurationManifest of(
+            @NonNull List<YamlSource> sources, @NonNull Mapping entries, @NonNull ConfigurationContext context) {
+        try {
+            final AppliedConfigurationManifest manifest = new AppliedConfigurationManifest();
+            manifest.jenkins = Jenkins.VERSION;
+            manifest.plugins = new TreeMap<>();
+            for (PluginWrapper plugin : Jenkins.get().getPluginManager().getPlugins()) {
+                if (plugin.isActive()) {
+                    manifest.plugins.put(plugin.getShortName(), plugin.getVersion());
+                }
+            }
+            manifest.sources = new LinkedHashMap<>();
+            for (YamlSource<?> source : sources) {
+                // other sources are only read once, their content is part of the model digest
+                manifest.sources.put(
+                        source.source(), source.source instanceof Path path ? digest(path) : StringUtils.EMPTY);
+            }
+            final Mac mac = MODEL_KEY.createMac();
+            update(mac, entries, context);
+            manifest.model = Util.toHexString(mac.doFinal());
+            return manifest;
+        } catch (IOException | ConfiguratorException | RuntimeException e) {
+            LOGGER.log(Level.FINE, "Can't describe the configuration, it will always be applied", e);
+            return null;
+        }
+    }
+
+    private static void update(Mac mac, @CheckForNull CNode node, ConfigurationContext context)
+            throws ConfiguratorException {
+        if (node == null) {
+            update(mac, "N", "");
+            return;
+        }
+        switch (node.getType()) {
+            case MAPPING -> {
+                final Mapping mapping = (Mapping) node;
+                // mappings don't keep any order
+                for (String key : new TreeMap<>(mapping).keySet()) {
+                    update(mac, "K", key);
+                    update(mac, mapping.get(key), context);
+                }
+                update(mac, "M", "");
+            }
+            case SEQUENCE -> {
+                // streamed sequences are read again, one item at a time
+                StreamedSequence.forEach(node, item -> update(mac, item, context));
+                update(mac, "S", "");
+            }
+            case SCALAR -> {
+                final Scalar scalar = (Scalar) node;
+                // variables may resolve to a different value than when last applied
+                final String value = scalar.isRaw()
+                        ? scalar.getValue()
+                        : context.getSecretSourceResolver().resolve(scalar.getValue());
+                update(mac, "V", Objects.toString(value, ""));
+            }
+        }
+    }
+
+    private static void update(Mac mac, String kind, String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        mac.update(kind.getBytes(StandardCharsets.UTF_8));
+        mac.update(Integer.toString(bytes.length).getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) ':');
+        mac.update(bytes);
+    }
+
+    /**
+     * Start recording files saved while applying configuration.
+     */
+    static void startRecording() {
+        recording = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Stop recording files saved while applying configuration.
+     * @return files saved since recording started
+     */
+    @NonNull
+    static Set<File> stopRecording() {
+        final Set<File> saved = recording;
+        recording = null;
+        return saved != null ? saved : Set.of();
+    }
+
+    /**
+     * Save this manifest as the description of the configuration just applied.
+     * @param saved files saved while applying it
+     */
+    void save(@NonNull Set<File> saved) {
+        try {
+            files = new TreeMap<>();
+            for (File file : saved) {
+                files.put(relativize(file), file.exists() ? digest(file.toPath()) : StringUtils.EMPTY);
+            }
+            getFile().write(this);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Failed to save the applied configuration manifest", e);
+            delete();
+        }
+    }
+
+    /**
+     * Forget about the configuration last applied, so it is applied again on next startup. Does nothing unless
+     * {@link #isSkipUnchangedEnabled()}, as the manifest is only written and read then.
+     */
+    static void delete() {
+        if (!isSkipUnchangedEnabled()) {
+            return;
+        }
+        final File file = getFile().getFile();
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to delete " + file, e);
+        }
+    }
+
+    /**
+     * @return manifest of the configuration last applied, or {@code null} if unknown
+     */
+    @CheckForNull
+    static AppliedConfigurationManifest load() {
+        final XmlFile file = getFile();
+        if (!file.exists()) {
+            return null;
+        }
+        try {
+            return (AppliedConfigurationManifest) file.read();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Failed to read " + file, e);
+            return null;
+        }
+    }
+
+    /**
+     * @param applied manifest of the configuration last applied
+     * @return {@code true} if this configuration is the one last applied, to the same Jenkins and plugins, and none of
+     * the files saved when applying it have changed since
+     */
+    boolean matches(@CheckForNull AppliedConfigurationManifest applied) {
+        if (applied == null
+                || applied.files == null
+                || !Objects.equals(jenkins, applied.jenkins)
+                || !Objects.equals(plugins, applied.plugins)
+                || !Objects.equals(sources, applied.sources)
+                || !Objects.equals(model, applied.model)) {
+            return false;
+        }
+        for (Map.Entry<String, String> entry : applied.files.entrySet()) {
+            final File file = resolve(entry.getKey());
+            try {
+                final String current = file.exists() ? digest(file.toPath()) : StringUtils.EMPTY;
+                if (!current.equals(entry.getValue())) {
+                    LOGGER.log(Level.FINE, "{0} changed since configuration was last applied", file);
+                    return false;
+                }
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Failed to read " + file, e);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return differences with the configuration last applied, for logging
+     */
+    List<String> describeChanges(@CheckForNull AppliedConfigurationManifest applied) {
+        final List<String> changes = new ArrayList<>();
+        if (applied == null) {
+            changes.add("no configuration applied before");
+            return changes;
+        }
+        if (!Objects.equals(jenkins, applied.jenkins)) {
+            changes.add("Jenkins version");
+        }
+        if (!Objects.equals(plugins, applied.plugins)) {
+            changes.add("plugins");
+        }
+        if (!Objects.equals(sources, applied.sources)) {
+            changes.add("sources");
+        }
+        if (!Objects.equals(model, applied.model)) {
+            changes.add("configuration");
+        }
+        if (changes.isEmpty()) {
+            changes.add("configured files");
+        }
+        return changes;
+    }
+
+    private static XmlFile getFile() {
+        return new XmlFile(Jenkins.XSTREAM2, new File(Jenkins.get().getRootDir(), FILE_NAME));
+    }
+
+    private static String relativize(File file) {
+        final Path root = Jenkins.get().getRootDir().toPath().toAbsolutePath();
+        final Path path = file.toPath().toAbsolutePath();
+        return path.startsWith(root) ? root.relativize(path).toString() : path.toString();
+    }
+
+    private static File resolve(String path) {
+        final File file = new File(path);
+        return file.isAbsolute() ? file : new File(Jenkins.get().getRootDir(), path);
+    }
+
+    private static String digest(Path path) throws IOException {
+        final MessageDigest digest = sha256();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(path), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return Util.toHexString(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Records files saved while configuration is being applied.
+     */
+    @Extension
+    @Restricted(NoExternalUse.class)
+    public static class Recorder extends SaveableListener {
+
+        @Override
+        public void onChange(Saveable o, XmlFile file) {
+            final Set<File> saved = recording;
+            if (saved != null && file != null) {
+                saved.add(file.getFile());
+            }
+        }
+    }
+}
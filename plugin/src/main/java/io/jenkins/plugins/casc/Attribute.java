@@ -18,6 +18,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -341,17 +342,46 @@ public class Attribute<Owner, Type> {
     }
 
     public boolean equals(Owner o1, Owner o2) throws Exception {
-        final Object v1 = getValue(o1);
-        final Object v2 = getValue(o2);
-        if (v1 == null && v2 == null) {
+        return sameValue(getValue(o1), getValue(o2));
+    }
+
+    /**
+     * Compare the value of this attribute on {@code instance} with a value already retrieved from a reference
+     * instance, typically from a cached snapshot of default values.
+     */
+    public boolean hasValue(Owner instance, @CheckForNull Object reference) throws Exception {
+        return sameValue(getValue(instance), reference);
+    }
+
+    /**
+     * Values of multi-valued attributes are compared regardless of order, but building cardinality maps is only
+     * needed when elements are not already in the same order, which is the common case when exporting.
+     */
+    private boolean sameValue(@CheckForNull Object v1, @CheckForNull Object v2) {
+        if (v1 == v2) {
             return true;
         }
-        if (multiple && v1 instanceof Collection && v2 instanceof Collection) {
-            Collection c1 = (Collection) v1;
-            Collection c2 = (Collection) v2;
-            return CollectionUtils.isEqualCollection(c1, c2);
+        if (v1 == null || v2 == null) {
+            return false;
+        }
+        if (multiple && v1 instanceof Collection c1 && v2 instanceof Collection c2) {
+            if (c1.size() != c2.size()) {
+                return false;
+            }
+            return sameOrder(c1, c2) || CollectionUtils.isEqualCollection(c1, c2);
+        }
+        return v1.equals(v2);
+    }
+
+    private static boolean sameOrder(Collection<?> c1, Collection<?> c2) {
+        final Iterator<?> i1 = c1.iterator();
+        final Iterator<?> i2 = c2.iterator();
+        while (i1.hasNext() && i2.hasNext()) {
+            if (!Objects.equals(i1.next(), i2.next())) {
+                return false;
+            }
         }
-        return v1 != null && v1.equals(v2);
+        return !i1.hasNext() && !i2.hasNext();
     }
 
     /**
@@ -12,6 +12,8 @@ import hudson.util.PersistedList;
 import io.jenkins.plugins.casc.impl.attributes.DescribableAttribute;
 import io.jenkins.plugins.casc.impl.attributes.DescribableListAttribute;
 import io.jenkins.plugins.casc.impl.attributes.PersistedListAttribute;
+import io.jenkins.plugins.casc.metrics.ConfigurationMetrics;
+import io.jenkins.plugins.casc.metrics.ConfigureEvent;
 import io.jenkins.plugins.casc.model.CNode;
 import io.jenkins.plugins.casc.model.Mapping;
 import java.io.IOException;
@@ -372,20 +374,44 @@ public abstract class BaseConfigurator<T> implements Configurator<T> {
     @NonNull
     @Override
     public T configure(CNode c, ConfigurationContext context) throws ConfiguratorException {
-        final Mapping mapping = (c != null ? c.asMapping() : Mapping.EMPTY);
-        final T instance = instance(mapping, context);
-        if (instance instanceof Saveable) {
-            try (BulkChange bc = new BulkChange((Saveable) instance)) {
+        final ConfigureEvent event = new ConfigureEvent();
+        event.begin();
+        final long start = System.nanoTime();
+        try {
+            final Mapping mapping = (c != null ? c.asMapping() : Mapping.EMPTY);
+            final T instance = instance(mapping, context);
+            if (instance instanceof Saveable) {
+                final ConfigurationTransaction transaction = context.getTransaction();
+                if (transaction != null) {
+                    transaction.touch((Saveable) instance);
+                }
+                final DeferredSaves deferredSaves = context.getDeferredSaves();
+                try (BulkChange bc = new BulkChange((Saveable) instance)) {
+                    configure(mapping, instance, false, context);
+                    if (deferredSaves != null) {
+                        // closing the BulkChange without committing it discards the saves made while configuring
+                        deferredSaves.add((Saveable) instance, getTarget());
+                    } else {
+                        final long saveStart = System.nanoTime();
+                        bc.commit();
+                        ConfigurationMetrics.get().save(getTarget(), System.nanoTime() - saveStart);
+                        event.saved = true;
+                    }
+                } catch (IOException e) {
+                    throw new ConfiguratorException("Failed to save " + instance, e);
+                }
+            } else {
                 configure(mapping, instance, false, context);
-                bc.commit();
-            } catch (IOException e) {
-                throw new ConfiguratorException("Failed to save " + instance, e);
             }
-        } else {
-            configure(mapping, instance, false, context);
-        }
 
-        return instance;
+            return instance;
+        } finally {
+            ConfigurationMetrics.get().configure(getTarget(), System.nanoTime() - start);
+            if (event.shouldCommit()) {
+                event.target = getTarget().getName();
+                event.commit();
+            }
+        }
     }
 
     @Override
@@ -406,7 +432,7 @@ public abstract class BaseConfigurator<T> implements Configurator<T> {
      */
     protected void configure(Mapping config, T instance, boolean dryrun, ConfigurationContext context)
             throws ConfiguratorException {
-        final Set<Attribute<T, ?>> attributes = describe();
+        final Set<Attribute<T, ?>> attributes = context.describe(this);
         List<Attribute<T, ?>> sortedAttributes =
                 attributes.stream().sorted(Configurator.extensionOrdinalSort()).collect(Collectors.toList());
         for (Attribute<T, ?> attribute : sortedAttributes) {
@@ -464,7 +490,9 @@ public abstract class BaseConfigurator<T> implements Configurator<T> {
                     }
 
                     if (!dryrun) {
+                        final long start = System.nanoTime();
                         ((Attribute) attribute).setValue(instance, valueToSet);
+                        ConfigurationMetrics.get().setValue(getTarget(), System.nanoTime() - start);
                     }
                 } catch (ConfiguratorException ex) {
                     if (ex instanceof UnknownAttributesException) {
@@ -516,7 +544,7 @@ public abstract class BaseConfigurator<T> implements Configurator<T> {
     protected @NonNull Mapping compare(T instance, T reference, ConfigurationContext context) throws Exception {
 
         Mapping mapping = new Mapping();
-        for (Attribute attribute : getAttributes()) {
+        for (Attribute attribute : context.getAttributes(this)) {
             if (attribute.equals(instance, reference)) {
                 continue;
             }
@@ -525,6 +553,23 @@ public abstract class BaseConfigurator<T> implements Configurator<T> {
         return mapping;
     }
 
+    /**
+     * Same as {@link #compare(Object, Object, ConfigurationContext)}, against attribute values of the reference
+     * instance indexed by attribute name, so the reference doesn't need to be built again for each instance.
+     */
+    protected @NonNull Mapping compare(T instance, Map<String, ?> reference, ConfigurationContext context)
+            throws Exception {
+
+        Mapping mapping = new Mapping();
+        for (Attribute attribute : context.getAttributes(this)) {
+            if (attribute.hasValue(instance, reference.get(attribute.getName()))) {
+                continue;
+            }
+            mapping.put(attribute.getName(), attribute.describe(instance, context));
+        }
+        return mapping;
+    }
+
     private CNode removeIgnoreCase(Mapping config, String name) {
         for (String k : config.keySet()) {
             if (name.equalsIgnoreCase(k)) {
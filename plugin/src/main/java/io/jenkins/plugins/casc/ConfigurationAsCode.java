@@ -1,6 +1,5 @@
 package io.jenkins.plugins.casc;
 
-import static io.jenkins.plugins.casc.SchemaGeneration.writeJSONSchema;
 import static io.jenkins.plugins.casc.fetcher.FetchCredentials.resolveAll;
 import static java.util.Collections.unmodifiableList;
 import static java.util.stream.Collectors.toList;
@@ -17,16 +16,25 @@ import hudson.PluginManager;
 import hudson.Util;
 import hudson.init.InitMilestone;
 import hudson.init.Initializer;
+import hudson.model.ItemGroup;
 import hudson.model.ManagementLink;
 import hudson.remoting.Which;
 import hudson.security.ACL;
 import hudson.security.ACLContext;
+import hudson.security.HudsonPrivateSecurityRealm;
 import hudson.security.Permission;
 import hudson.util.FormValidation;
+import io.jenkins.plugins.casc.core.ItemExporter;
+import io.jenkins.plugins.casc.core.UserExporter;
 import io.jenkins.plugins.casc.fetcher.CasCConfigFetcher;
 import io.jenkins.plugins.casc.fetcher.FetchContext;
 import io.jenkins.plugins.casc.fetcher.FetchCredentials;
 import io.jenkins.plugins.casc.impl.DefaultConfiguratorRegistry;
+import io.jenkins.plugins.casc.metrics.ApplyEvent;
+import io.jenkins.plugins.casc.metrics.CheckEvent;
+import io.jenkins.plugins.casc.metrics.ConfigurationMetrics;
+import io.jenkins.plugins.casc.metrics.ExportEvent;
+import io.jenkins.plugins.casc.metrics.FetchEvent;
 import io.jenkins.plugins.casc.model.CNode;
 import io.jenkins.plugins.casc.model.Mapping;
 import io.jenkins.plugins.casc.model.Scalar;
@@ -123,6 +131,10 @@ public class ConfigurationAsCode extends ManagementLink {
 
     private List<String> sources = Collections.emptyList();
 
+    private volatile ReferenceModel referenceModel;
+
+    private final Object applyLock = new Object();
+
     @CheckForNull
     @Override
     public String getIconFileName() {
@@ -175,7 +187,7 @@ public class ConfigurationAsCode extends ManagementLink {
         }
 
         try {
-            configure();
+            ConfigurationReloader.get().submit("ui").await();
         } catch (ConfiguratorException e) {
             LOGGER.log(Level.SEVERE, "Failed to reload configuration", e);
 
@@ -192,6 +204,68 @@ public class ConfigurationAsCode extends ManagementLink {
         response.sendRedirect("");
     }
 
+    /**
+     * Submit a reload without waiting for it to complete.
+     * Responds with the reload status, see {@link #doReloadStatus(StaplerResponse2, String)}.
+     */
+    @RequirePOST
+    @Restricted(NoExternalUse.class)
+    public void doReloadAsync(StaplerRequest2 request, StaplerResponse2 response) throws Exception {
+        if (!Jenkins.get().hasPermission(Jenkins.MANAGE)) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+
+        final ReloadJob job = ConfigurationReloader.get().submit("ui");
+        response.setStatus(HttpServletResponse.SC_ACCEPTED);
+        response.setContentType("application/json; charset=utf-8");
+        job.toJSON().write(response.getWriter());
+    }
+
+    /**
+     * Phase, progress and error of a reload
+     * @param id reload id
+     */
+    @Restricted(NoExternalUse.class)
+    public void doReloadStatus(StaplerResponse2 response, @QueryParameter String id) throws Exception {
+        if (!Jenkins.get().hasPermission(Jenkins.MANAGE)) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+
+        final ReloadJob job = ConfigurationReloader.get().getJob(id);
+        if (job == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        response.setContentType("application/json; charset=utf-8");
+        job.toJSON().write(response.getWriter());
+    }
+
+    /**
+     * Cancel a reload, which is only possible until it starts applying configuration
+     * @param id reload id
+     */
+    @RequirePOST
+    @Restricted(NoExternalUse.class)
+    public void doReloadCancel(StaplerResponse2 response, @QueryParameter String id) throws Exception {
+        if (!Jenkins.get().hasPermission(Jenkins.MANAGE)) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+
+        final ReloadJob job = ConfigurationReloader.get().getJob(id);
+        if (job == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (!job.cancel()) {
+            response.setStatus(HttpServletResponse.SC_CONFLICT);
+        }
+        response.setContentType("application/json; charset=utf-8");
+        job.toJSON().write(response.getWriter());
+    }
+
     @Restricted(NoExternalUse.class)
     public static void handleExceptionOnReloading(
             StaplerRequest2 request, StaplerResponse2 response, ConfiguratorException cause)
@@ -348,12 +422,20 @@ public class ConfigurationAsCode extends ManagementLink {
 
                 for (CasCConfigFetcher fetcher : Jenkins.get().getExtensionList(CasCConfigFetcher.class)) {
                     if (fetcher.supports(p)) {
+                        final FetchEvent event = new FetchEvent();
+                        event.begin();
                         try {
                             context.add(fetcher.fetch(p, credentials));
                             fetched = true;
                             break;
                         } catch (IOException e) {
                             throw new ConfiguratorException("Failed to fetch configuration from " + p, e);
+                        } finally {
+                            if (event.shouldCommit()) {
+                                event.fetcher = fetcher.getClass().getName();
+                                event.source = p;
+                                event.commit();
+                            }
                         }
                     }
                 }
@@ -386,8 +468,9 @@ public class ConfigurationAsCode extends ManagementLink {
     @Initializer(after = InitMilestone.SYSTEM_CONFIG_LOADED, before = InitMilestone.SYSTEM_CONFIG_ADAPTED)
     public static void init() throws Exception {
         detectVaultPluginMissing();
+        ConfiguratorPrewarmer.get().await();
         try {
-            get().configure();
+            get().configureOnStartup();
         } catch (ConfiguratorException e) {
             throw new ConfigurationAsCodeBootFailure(e);
         }
@@ -398,8 +481,26 @@ public class ConfigurationAsCode extends ManagementLink {
      * @throws ConfiguratorException Configuration error
      */
     public void configure() throws ConfiguratorException {
+        configure((ReloadJob) null);
+    }
+
+    /**
+     * Configure from standard sources, reporting progress to a reload job.
+     * @param job reload job to report progress to, and to check for cancellation before applying configuration
+     */
+    void configure(@CheckForNull ReloadJob job) throws ConfiguratorException {
         try (FetchContext context = getStandardConfigSources()) {
-            configureWith(context.getSources());
+            configureWith(context.getSources(), job);
+        }
+    }
+
+    /**
+     * Configure from standard sources on startup, unless configuration didn't change since last applied and
+     * {@link AppliedConfigurationManifest#isSkipUnchangedEnabled()}.
+     */
+    private void configureOnStartup() throws ConfiguratorException {
+        try (FetchContext context = getStandardConfigSources()) {
+            configureWith(context.getSources(), null, true);
         }
     }
 
@@ -550,6 +651,42 @@ public class ConfigurationAsCode extends ManagementLink {
         }
     }
 
+    @RequirePOST
+    @Restricted(NoExternalUse.class)
+    public void doPlan(StaplerRequest2 req, StaplerResponse2 res) throws Exception {
+        if (!Jenkins.get().hasPermission(Jenkins.ADMINISTER)) {
+            res.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+
+        res.setContentType("application/json");
+
+        try {
+            final ConfigurationPlan plan = planWith(YamlSource.of(req));
+
+            JSONArray response = new JSONArray();
+            for (ConfigurationPlan.Change change : plan.getChanges()) {
+                response.add(new JSONObject()
+                        .element("path", change.getPath())
+                        .element("action", change.getAction().name())
+                        .element("line", change.getSource() != null ? change.getSource().line() : -1)
+                        .element("current", change.getCurrent())
+                        .element("proposed", change.getProposed()));
+            }
+            response.write(res.getWriter());
+
+        } catch (Exception e) {
+            res.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+
+            JSONArray errors = new JSONArray();
+            errors.add(new JSONObject()
+                    .accumulate("line", -1)
+                    .accumulate("message", e.getMessage() != null ? e.getMessage() : e.getClass().getName()));
+
+            errors.write(res.getWriter());
+        }
+    }
+
     @RequirePOST
     @Restricted(NoExternalUse.class)
     public void doApply(StaplerRequest2 req, StaplerResponse2 res) throws Exception {
@@ -578,6 +715,55 @@ public class ConfigurationAsCode extends ManagementLink {
         export(res.getOutputStream());
     }
 
+    /**
+     * Export all items of a folder, recursively, as a single {@code items:} Yaml document
+     * @param folder full name of the folder to export, the whole instance if blank
+     * @throws Exception
+     */
+    @RequirePOST
+    @Restricted(NoExternalUse.class)
+    public void doExportItems(StaplerRequest2 req, StaplerResponse2 res, @QueryParameter String folder)
+            throws Exception {
+        if (!Jenkins.get().hasPermission(Jenkins.SYSTEM_READ)) {
+            res.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+
+        final ItemGroup<?> root = ItemExporter.lookupItemGroup(folder);
+        if (root == null) {
+            res.sendError(HttpServletResponse.SC_NOT_FOUND, "No such folder: " + folder);
+            return;
+        }
+
+        res.setContentType("application/x-yaml; charset=utf-8");
+        res.addHeader("Content-Disposition", "attachment; filename=items.yaml");
+        exportItems(root, res.getOutputStream());
+    }
+
+    /**
+     * Export users of Jenkins' own user database as a single {@code jenkins.securityRealm.local.users} Yaml document
+     * @param idsOnly only export user ids
+     * @throws Exception
+     */
+    @RequirePOST
+    @Restricted(NoExternalUse.class)
+    public void doExportUsers(StaplerRequest2 req, StaplerResponse2 res, @QueryParameter boolean idsOnly)
+            throws Exception {
+        if (!Jenkins.get().hasPermission(Jenkins.SYSTEM_READ)) {
+            res.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+
+        if (!(Jenkins.get().getSecurityRealm() instanceof HudsonPrivateSecurityRealm realm)) {
+            res.sendError(HttpServletResponse.SC_NOT_FOUND, "Jenkins' own user database is not used");
+            return;
+        }
+
+        res.setContentType("application/x-yaml; charset=utf-8");
+        res.addHeader("Content-Disposition", "attachment; filename=users.yaml");
+        exportUsers(realm, res.getOutputStream(), idsOnly);
+    }
+
     /**
      * Export JSONSchema to URL
      * @throws Exception
@@ -590,8 +776,77 @@ public class ConfigurationAsCode extends ManagementLink {
             return;
         }
 
+        final SchemaGeneration.Schema schema = SchemaGeneration.getSchema();
+        final boolean gzip = acceptsGzip(req.getHeader("Accept-Encoding"));
+        final String etag = gzip ? schema.gzipEtag() : schema.etag();
+        res.setHeader("ETag", etag);
+        res.setHeader("Cache-Control", "private, no-cache");
+        res.setHeader("Vary", "Accept-Encoding");
+        if (matchesEtag(req.getHeader("If-None-Match"), etag)) {
+            res.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
         res.setContentType("application/json; charset=utf-8");
-        res.getWriter().print(writeJSONSchema());
+        if (gzip) {
+            res.setHeader("Content-Encoding", "gzip");
+            res.setContentLength(schema.gzip().length);
+            res.getOutputStream().write(schema.gzip());
+        } else {
+            res.setContentLength(schema.json().length);
+            res.getOutputStream().write(schema.json());
+        }
+    }
+
+    /**
+     * @param acceptEncoding value of the {@code Accept-Encoding} request header
+     * @return {@code true} if gzip is accepted, explicitly or through {@code *}, with a non zero q-value
+     */
+    static boolean acceptsGzip(@CheckForNull String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String coding : acceptEncoding.split(",")) {
+            final String[] params = coding.split(";");
+            final String name = params[0].trim();
+            double q = 1;
+            for (int i = 1; i < params.length; i++) {
+                final String param = params[i].trim();
+                if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        q = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            if (name.equalsIgnoreCase("gzip") || name.equalsIgnoreCase("x-gzip")) {
+                // an explicit q-value wins over the wildcard
+                return q > 0;
+            }
+            if (name.equals("*")) {
+                wildcard = q > 0;
+            }
+        }
+        return wildcard;
+    }
+
+    /**
+     * @param ifNoneMatch value of the {@code If-None-Match} request header
+     * @return {@code true} if any of the listed entity tags is {@code etag}
+     */
+    static boolean matchesEtag(@CheckForNull String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            final String tag = StringUtils.removeStart(candidate.trim(), "W/");
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @RequirePOST
@@ -609,17 +864,40 @@ public class ConfigurationAsCode extends ManagementLink {
         req.getView(this, "viewExport.jelly").forward(req, res);
     }
 
+    /**
+     * Timing and counters of the last configuration run, as JSON
+     */
+    @Restricted(NoExternalUse.class)
+    public void doMetrics(StaplerRequest2 req, StaplerResponse2 res) throws Exception {
+        if (!Jenkins.get().hasPermission(Jenkins.SYSTEM_READ)) {
+            res.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+
+        res.setContentType("application/json; charset=utf-8");
+        ConfigurationMetrics.get()
+                .toJSON()
+                .element("reloads", ConfigurationReloader.get().toJSON())
+                .element("unsupportedTypes", registry.getUnsupportedTypes())
+                .write(res.getWriter());
+    }
+
     @Restricted(NoExternalUse.class)
     public PrismConfiguration getPrismConfiguration() {
         return PrismConfiguration.getInstance();
     }
 
     @Restricted(NoExternalUse.class)
-    public void doReference(StaplerRequest2 req, StaplerResponse2 res) throws Exception {
+    public void doReference(StaplerRequest2 req, StaplerResponse2 res, @QueryParameter String root)
+            throws Exception {
         if (!Jenkins.get().hasPermission(Jenkins.SYSTEM_READ)) {
             res.sendError(HttpServletResponse.SC_FORBIDDEN);
             return;
         }
+        if (root != null && getReferenceModel().getRoot(root) == null) {
+            res.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
 
         req.getView(this, "reference.jelly").forward(req, res);
     }
@@ -631,7 +909,17 @@ public class ConfigurationAsCode extends ManagementLink {
 
         final ConfigurationContext context = new ConfigurationContext(registry);
         for (RootElementConfigurator root : RootElementConfigurator.all()) {
-            final CNode config = root.describe(root.getTargetComponent(context), context);
+            final ExportEvent event = new ExportEvent();
+            event.begin();
+            final CNode config;
+            try {
+                config = root.describe(root.getTargetComponent(context), context);
+            } finally {
+                if (event.shouldCommit()) {
+                    event.root = root.getName();
+                    event.commit();
+                }
+            }
             final Node valueNode = toYaml(config);
             if (valueNode == null) {
                 continue;
@@ -647,6 +935,44 @@ public class ConfigurationAsCode extends ManagementLink {
         }
     }
 
+    /**
+     * Export items of a folder, recursively, sharing a single {@link ConfigurationContext}.
+     * @return number of exported items
+     */
+    @Restricted(NoExternalUse.class)
+    public int exportItems(ItemGroup<?> root, OutputStream out) throws Exception {
+        final ConfigurationContext context = new ConfigurationContext(registry);
+        final ExportEvent event = new ExportEvent();
+        event.begin();
+        try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+            return new ItemExporter().export(root, context, writer);
+        } finally {
+            if (event.shouldCommit()) {
+                event.root = "items";
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Export users of Jenkins' own user database, sharing a single {@link ConfigurationContext}.
+     * @return number of exported users
+     */
+    @Restricted(NoExternalUse.class)
+    public int exportUsers(HudsonPrivateSecurityRealm realm, OutputStream out, boolean idsOnly) throws Exception {
+        final ConfigurationContext context = new ConfigurationContext(registry);
+        final ExportEvent event = new ExportEvent();
+        event.begin();
+        try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+            return new UserExporter().export(realm, context, writer, idsOnly);
+        } finally {
+            if (event.shouldCommit()) {
+                event.root = "users";
+                event.commit();
+            }
+        }
+    }
+
     @Restricted(NoExternalUse.class) // for testing only
     public static void serializeYamlNode(Node root, Writer writer) throws IOException {
         DumperOptions options = new DumperOptions();
@@ -771,9 +1097,42 @@ public class ConfigurationAsCode extends ManagementLink {
     }
 
     private void configureWith(List<YamlSource> sources) throws ConfiguratorException {
-        lastTimeLoaded = System.currentTimeMillis();
-        ConfigurationContext context = new ConfigurationContext(registry);
-        configureWith(YamlUtils.loadFrom(sources, context), context);
+        configureWith(sources, null);
+    }
+
+    private void configureWith(List<YamlSource> sources, @CheckForNull ReloadJob job) throws ConfiguratorException {
+        configureWith(sources, job, false);
+    }
+
+    private void configureWith(List<YamlSource> sources, @CheckForNull ReloadJob job, boolean startup)
+            throws ConfiguratorException {
+        // reloads, web and CLI applies all end here: apply one configuration at a time, as they share the
+        // obsolete configuration monitor, metrics and applied manifest
+        synchronized (applyLock) {
+            lastTimeLoaded = System.currentTimeMillis();
+            ConfigurationContext context = new ConfigurationContext(registry);
+            final Mapping entries = YamlUtils.loadFrom(sources, context);
+
+            // Initialize secret sources
+            SecretSource.all().forEach(SecretSource::init);
+
+            AppliedConfigurationManifest manifest = null;
+            if (AppliedConfigurationManifest.isSkipUnchangedEnabled()) {
+                manifest = AppliedConfigurationManifest.of(sources, entries, context);
+                if (startup && manifest != null && !AppliedConfigurationManifest.isForced()) {
+                    final AppliedConfigurationManifest applied = AppliedConfigurationManifest.load();
+                    if (manifest.matches(applied)) {
+                        LOGGER.log(Level.INFO, "Configuration didn't change since last applied, skipping it");
+                        return;
+                    }
+                    LOGGER.log(
+                            Level.FINE,
+                            "Applying configuration, changed since last applied: {0}",
+                            manifest.describeChanges(applied));
+                }
+            }
+            configureWith(entries, context, job, manifest);
+        }
     }
 
     @Restricted(NoExternalUse.class)
@@ -892,31 +1251,131 @@ public class ConfigurationAsCode extends ManagementLink {
         }
     }
 
-    private void configureWith(Mapping entries, ConfigurationContext context) throws ConfiguratorException {
-        // Initialize secret sources
-        SecretSource.all().forEach(SecretSource::init);
-
+    private void configureWith(
+            Mapping entries,
+            ConfigurationContext context,
+            @CheckForNull ReloadJob job,
+            @CheckForNull AppliedConfigurationManifest manifest)
+            throws ConfiguratorException {
         // Check input before actually applying changes, so we don't let controller in a
-        // weird state after some ConfiguratorException has been thrown
+        // weird state after some ConfiguratorException has been thrown.
+        // A transaction only rolls back part of the changes if applying fails nevertheless, so check anyway.
+        if (job != null) {
+            job.checking();
+        }
         final Mapping clone = entries.clone();
         checkWith(clone, context);
+        final ConfigurationTransaction transaction =
+                ConfigurationTransaction.isEnabled() ? new ConfigurationTransaction() : null;
+
+        // last chance to cancel, nothing has been applied yet
+        if (job != null) {
+            job.applying(entries.size());
+        }
 
         final ObsoleteConfigurationMonitor monitor = ObsoleteConfigurationMonitor.get();
         monitor.reset();
         context.clearListeners();
         context.addListener(monitor::record);
+        final ConfigurationMetrics metrics = ConfigurationMetrics.get();
+        metrics.reset();
+        // if enabled, each configured object is saved once, when the whole configuration has been applied
+        final DeferredSaves deferredSaves = DeferredSaves.isEnabled() ? new DeferredSaves() : null;
+        context.setTransaction(transaction);
+        context.setDeferredSaves(deferredSaves);
+        // whatever was applied last is about to change, even if applying fails
+        AppliedConfigurationManifest.delete();
+        if (manifest != null) {
+            AppliedConfigurationManifest.startRecording();
+        }
         try (ACLContext acl = ACL.as2(ACL.SYSTEM2)) {
-            invokeWith(entries, (configurator, config) -> configurator.configure(config, context));
+            invokeWith(entries, (configurator, config) -> {
+                final ApplyEvent event = new ApplyEvent();
+                event.begin();
+                final long start = System.nanoTime();
+                try {
+                    return configurator.configure(config, context);
+                } finally {
+                    if (job != null) {
+                        job.applied();
+                    }
+                    metrics.root(configurator.getName(), System.nanoTime() - start);
+                    if (event.shouldCommit()) {
+                        event.root = configurator.getName();
+                        event.commit();
+                    }
+                }
+            });
+            if (deferredSaves != null) {
+                deferredSaves.flush();
+            }
+            if (manifest != null) {
+                manifest.save(AppliedConfigurationManifest.stopRecording());
+            }
+        } catch (ConfiguratorException | RuntimeException e) {
+            try (ACLContext acl = ACL.as2(ACL.SYSTEM2)) {
+                if (transaction != null) {
+                    LOGGER.log(Level.WARNING, "Failed to apply configuration, rolling back", e);
+                    transaction.rollback();
+                }
+                if (deferredSaves != null && deferredSaves.size() > 0) {
+                    // whatever was applied, and not rolled back, stays in memory, so persist it as well
+                    LOGGER.log(
+                            Level.WARNING,
+                            "Failed to apply configuration, saving {0} objects configured so far",
+                            deferredSaves.size());
+                    deferredSaves.flush();
+                }
+            } catch (ConfiguratorException | RuntimeException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        } finally {
+            AppliedConfigurationManifest.stopRecording();
+            context.setTransaction(null);
+            context.setDeferredSaves(null);
         }
     }
 
     public Map<Source, String> checkWith(Mapping entries, ConfigurationContext context) throws ConfiguratorException {
         Map<Source, String> issues = new HashMap<>();
         context.addListener((node, message) -> issues.put(node.getSource(), message));
-        invokeWith(entries, (configurator, config) -> configurator.check(config, context));
+        final CheckEvent event = new CheckEvent();
+        event.begin();
+        try {
+            invokeWith(entries, (configurator, config) -> configurator.check(config, context));
+        } finally {
+            if (event.shouldCommit()) {
+                event.commit();
+            }
+        }
         return issues;
     }
 
+    @Restricted(NoExternalUse.class)
+    public ConfigurationPlan planWith(YamlSource source) throws ConfiguratorException {
+        ConfigurationContext context = new ConfigurationContext(registry);
+        return planWith(YamlUtils.loadFrom(Collections.singletonList(source), context), context);
+    }
+
+    /**
+     * Compute the changes applying this configuration would make to the running instance, without applying it.
+     * Configuration is checked first, so invalid input fails the same way {@link #checkWith(Mapping,
+     * ConfigurationContext)} does.
+     */
+    public ConfigurationPlan planWith(Mapping entries, ConfigurationContext context) throws ConfiguratorException {
+        // Secret sources are needed to compare resolved values
+        SecretSource.all().forEach(SecretSource::init);
+        checkWith(entries.clone(), context);
+
+        final ConfigurationPlan plan = new ConfigurationPlan(this, context);
+        invokeWith(entries, (configurator, config) -> {
+            plan.compare(configurator, config);
+            return null;
+        });
+        return plan;
+    }
+
     public static ConfigurationAsCode get() {
         return Jenkins.get().getExtensionList(ConfigurationAsCode.class).get(0);
     }
@@ -941,6 +1400,53 @@ public class ConfigurationAsCode extends ManagementLink {
         return elements;
     }
 
+    /**
+     * Used for documentation generation in reference.jelly.
+     * The model is built on first use and rebuilt once plugins have been installed, updated or removed.
+     */
+    @Restricted(NoExternalUse.class)
+    public ReferenceModel getReferenceModel() {
+        final String plugins = String.join(",", SchemaGeneration.installedPlugins());
+        ReferenceModel model = referenceModel;
+        if (model != null && model.getPlugins().equals(plugins)) {
+            return model;
+        }
+        synchronized (this) {
+            model = referenceModel;
+            if (model == null || !model.getPlugins().equals(plugins)) {
+                model = buildReferenceModel(plugins);
+                referenceModel = model;
+            }
+            return model;
+        }
+    }
+
+    private ReferenceModel buildReferenceModel(String plugins) {
+        final long start = System.currentTimeMillis();
+        List<RootElementConfigurator> roots = RootElementConfigurator.all();
+        final ConfigurationContext context = new ConfigurationContext(registry);
+        Set<Object> elements = new LinkedHashSet<>(roots);
+        List<ReferenceModel.Root> model = new ArrayList<>();
+        for (RootElementConfigurator root : roots) {
+            // configurators already documented under a previous root are not repeated
+            final int known = elements.size();
+            listElements(elements, root.describe(), context);
+
+            List<ReferenceModel.Entry> entries = new ArrayList<>();
+            if (root instanceof BaseConfigurator<?> configurator) {
+                entries.add(ReferenceModel.Entry.of(configurator, this));
+            }
+            elements.stream().skip(known).forEach(element -> {
+                if (element instanceof BaseConfigurator<?> configurator) {
+                    entries.add(ReferenceModel.Entry.of(configurator, this));
+                }
+            });
+            model.add(new ReferenceModel.Root(root.getName(), entries));
+        }
+        LOGGER.log(Level.FINE, "Built reference documentation in {0}ms", System.currentTimeMillis() - start);
+        return new ReferenceModel(plugins, model);
+    }
+
     /**
      * Recursive configurators tree walk (DFS).
      * Collects all configurators starting from root ones in {@link #getConfigurators()}
@@ -968,8 +1474,7 @@ public class ConfigurationAsCode extends ManagementLink {
     // --- UI helper methods
 
     /**
-     * Retrieve the html help tip associated to an attribute, used in documentation.jelly
-     * FIXME would prefer &lt;st:include page="help-${a.name}.html" class="${c.target}" optional="true"/&gt;
+     * Retrieve the html help tip associated to an attribute, used to build the {@link ReferenceModel} and the schema
      * @param attribute to get help for
      * @return String that shows help. May be empty
      * @throws IOException if the resource cannot be read
@@ -985,7 +1490,7 @@ public class ConfigurationAsCode extends ManagementLink {
     }
 
     /**
-     * Retrieve which plugin do provide this extension point, used in documentation.jelly
+     * Retrieve which plugin do provide this extension point, used to build the {@link ReferenceModel}
      *
      * @return String representation of the extension source, usually artifactId.
      */
@@ -6,8 +6,14 @@ import hudson.Util;
 import io.jenkins.plugins.casc.model.CNode;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.lang3.math.NumberUtils;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
 import org.kohsuke.stapler.Stapler;
 
 /**
@@ -19,6 +25,8 @@ public class ConfigurationContext implements ConfiguratorRegistry {
     public static final String CASC_YAML_MAX_ALIASES_PROPERTY = "casc.yaml.max.aliases";
     public static final String CASC_YAML_CODE_POINT_LIMIT_ENV = "CASC_YAML_CODE_POINT_LIMIT";
     public static final String CASC_YAML_CODE_POINT_LIMIT_PROPERTY = "casc.yaml.code_point_limit";
+    public static final String CASC_YAML_STREAMING_ENV = "CASC_YAML_STREAMING";
+    public static final String CASC_YAML_STREAMING_PROPERTY = "casc.yaml.streaming";
     public static final String CASC_MERGE_STRATEGY_ENV = "CASC_MERGE_STRATEGY";
     public static final String CASC_MERGE_STRATEGY_PROPERTY = "casc.merge.strategy";
     private Deprecation deprecation = Deprecation.reject;
@@ -27,6 +35,7 @@ public class ConfigurationContext implements ConfiguratorRegistry {
     private String mergeStrategy;
     private final transient int yamlMaxAliasesForCollections;
     private final transient int yamlCodePointLimit;
+    private final transient boolean yamlStreaming;
 
     /**
      * the model-introspection model to be applied by configuration-as-code.
@@ -44,6 +53,36 @@ public class ConfigurationContext implements ConfiguratorRegistry {
 
     private transient SecretSourceResolver secretSourceResolver;
 
+    @CheckForNull
+    private transient ConfigurationTransaction transaction;
+
+    @CheckForNull
+    private transient DeferredSaves deferredSaves;
+
+    /**
+     * Attributes by configurator, so reflection on the same types is done once per configuration or export, rather
+     * than once per configured or exported object.
+     */
+    private final transient Map<Identity, Set<?>> described = new ConcurrentHashMap<>();
+
+    private final transient Map<Identity, List<?>> attributes = new ConcurrentHashMap<>();
+
+    /**
+     * Keys configurators by identity, as {@link BaseConfigurator#equals(Object)} only compares targets, while distinct
+     * configurators for the same target may describe different attributes.
+     */
+    private record Identity(Configurator<?> configurator) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Identity other && other.configurator == configurator;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(configurator);
+        }
+    }
+
     public ConfigurationContext(ConfiguratorRegistry registry) {
         this(registry, null);
     }
@@ -54,6 +93,7 @@ public class ConfigurationContext implements ConfiguratorRegistry {
         yamlMaxAliasesForCollections = NumberUtils.toInt(prop, 50);
         prop = getPropertyOrEnv(CASC_YAML_CODE_POINT_LIMIT_ENV, CASC_YAML_CODE_POINT_LIMIT_PROPERTY);
         yamlCodePointLimit = NumberUtils.toInt(prop, 3) * 1024 * 1024;
+        yamlStreaming = Boolean.parseBoolean(getPropertyOrEnv(CASC_YAML_STREAMING_ENV, CASC_YAML_STREAMING_PROPERTY));
         secretSourceResolver = new SecretSourceResolver(this);
         this.mergeStrategy = mergeStrategy != null
                 ? mergeStrategy
@@ -68,6 +108,57 @@ public class ConfigurationContext implements ConfiguratorRegistry {
         return secretSourceResolver;
     }
 
+    /**
+     * Same as {@link Configurator#describe()}, computed once for this context.
+     */
+    @NonNull
+    @SuppressWarnings("unchecked")
+    @Restricted(NoExternalUse.class)
+    public <T> Set<Attribute<T, ?>> describe(@NonNull Configurator<T> configurator) {
+        return (Set<Attribute<T, ?>>) described.computeIfAbsent(
+                new Identity(configurator), c -> Collections.unmodifiableSet(configurator.describe()));
+    }
+
+    /**
+     * Same as {@link Configurator#getAttributes()}, computed once for this context.
+     */
+    @NonNull
+    @SuppressWarnings("unchecked")
+    @Restricted(NoExternalUse.class)
+    public <T> List<Attribute<T, ?>> getAttributes(@NonNull Configurator<T> configurator) {
+        return (List<Attribute<T, ?>>) attributes.computeIfAbsent(
+                new Identity(configurator), c -> List.copyOf(configurator.getAttributes()));
+    }
+
+    /**
+     * @return transaction configured objects have to be recorded to, if configuration is applied in a transaction
+     */
+    @CheckForNull
+    @Restricted(NoExternalUse.class)
+    public ConfigurationTransaction getTransaction() {
+        return transaction;
+    }
+
+    @Restricted(NoExternalUse.class)
+    public void setTransaction(@CheckForNull ConfigurationTransaction transaction) {
+        this.transaction = transaction;
+    }
+
+    /**
+     * @return where configured objects have to be registered to be saved once configuration has been applied, or
+     *     {@code null} if they have to be saved right away
+     */
+    @CheckForNull
+    @Restricted(NoExternalUse.class)
+    public DeferredSaves getDeferredSaves() {
+        return deferredSaves;
+    }
+
+    @Restricted(NoExternalUse.class)
+    public void setDeferredSaves(@CheckForNull DeferredSaves deferredSaves) {
+        this.deferredSaves = deferredSaves;
+    }
+
     public void addListener(Listener listener) {
         listeners.add(listener);
     }
@@ -126,6 +217,14 @@ public class ConfigurationContext implements ConfiguratorRegistry {
         return yamlCodePointLimit;
     }
 
+    /**
+     * @return {@code true} if sequences of {@link RootElementConfigurator#isStreamable() streamable} root elements
+     * are read one item at a time while configuration is applied, rather than all at once
+     */
+    public boolean isYamlStreaming() {
+        return yamlStreaming;
+    }
+
     // --- delegate methods for ConfigurationContext
 
     @Override
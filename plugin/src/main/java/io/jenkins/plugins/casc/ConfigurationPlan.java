@@ -0,0 +1,271 @@
+package io.jenkins.plugins.casc;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.util.Secret;
+import io.jenkins.plugins.casc.model.CNode;
+import io.jenkins.plugins.casc.model.Mapping;
+import io.jenkins.plugins.casc.model.Scalar;
+import io.jenkins.plugins.casc.model.Sequence;
+import io.jenkins.plugins.casc.model.Source;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.Beta;
+import org.yaml.snakeyaml.nodes.Node;
+
+/**
+ * Changes a configuration would make to the running instance, computed without applying it.
+ *
+ * The current state is described by {@link Configurator#describe(Object, ConfigurationContext)}, as for export,
+ * and compared attribute by attribute with the incoming configuration.
+ * Attributes missing from the incoming configuration are left untouched by configuration, so they are not reported.
+ * As export omits attributes set to their default value, explicitly setting an attribute to its default is reported
+ * as an addition.
+ * Sequences are replaced as a whole when configuring, so they are reported as a single change.
+ */
+@Restricted(Beta.class)
+public final class ConfigurationPlan {
+
+    private static final String MASKED = "****";
+
+    public enum Action {
+        /** Attribute has no value, or its default one, on the running instance. */
+        ADD,
+        /** Attribute value differs from the running instance. */
+        UPDATE
+    }
+
+    /**
+     * A single attribute change.
+     */
+    public static final class Change {
+        private final String path;
+        private final Action action;
+        private final String current;
+        private final String proposed;
+        private final Source source;
+
+        Change(String path, Action action, String current, String proposed, Source source) {
+            this.path = path;
+            this.action = action;
+            this.current = current;
+            this.proposed = proposed;
+            this.source = source;
+        }
+
+        /**
+         * @return dot separated path to the attribute, starting with the root element name
+         */
+        @NonNull
+        public String getPath() {
+            return path;
+        }
+
+        @NonNull
+        public Action getAction() {
+            return action;
+        }
+
+        /**
+         * @return current value as YAML, {@code null} for {@link Action#ADD}. Secrets are masked.
+         */
+        @CheckForNull
+        public String getCurrent() {
+            return current;
+        }
+
+        /**
+         * @return proposed value as YAML, as written in the configuration, before variables are resolved
+         */
+        @NonNull
+        public String getProposed() {
+            return proposed;
+        }
+
+        /**
+         * @return location of the proposed value in the configuration, if known
+         */
+        @CheckForNull
+        public Source getSource() {
+            return source;
+        }
+    }
+
+    private final List<Change> changes = new ArrayList<>();
+    private final ConfigurationAsCode casc;
+    private final ConfigurationContext context;
+
+    ConfigurationPlan(ConfigurationAsCode casc, ConfigurationContext context) {
+        this.casc = casc;
+        this.context = context;
+    }
+
+    /**
+     * @return changes in configuration order, empty if the configuration matches the running instance
+     */
+    @NonNull
+    public List<Change> getChanges() {
+        return Collections.unmodifiableList(changes);
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /**
+     * Compare the incoming configuration of a root element with the running instance.
+     */
+    void compare(@NonNull RootElementConfigurator<?> root, @NonNull CNode proposed) throws ConfiguratorException {
+        final CNode current;
+        try {
+            current = describe(root, context);
+        } catch (Exception e) {
+            throw new ConfiguratorException(root, "Failed to describe current configuration", e);
+        }
+        diff(root.getName(), current, proposed);
+    }
+
+    private static <T> CNode describe(RootElementConfigurator<T> root, ConfigurationContext context)
+            throws Exception {
+        return root.describe(root.getTargetComponent(context), context);
+    }
+
+    private void diff(String path, @CheckForNull CNode current, CNode proposed) throws ConfiguratorException {
+        if (current == null) {
+            if (!isEmpty(proposed)) {
+                changes.add(new Change(path, Action.ADD, null, render(proposed), proposed.getSource()));
+            }
+            return;
+        }
+        if (current instanceof Mapping currentMapping && proposed instanceof Mapping proposedMapping) {
+            for (Map.Entry<String, CNode> entry : proposedMapping.entrySet()) {
+                diff(path + "." + entry.getKey(), get(currentMapping, entry.getKey()), entry.getValue());
+            }
+            return;
+        }
+        if (!same(current, proposed)) {
+            changes.add(new Change(path, Action.UPDATE, render(current), render(proposed), proposed.getSource()));
+        }
+    }
+
+    /**
+     * Strict comparison, used below sequences where configuration replaces the whole value.
+     */
+    private boolean same(@CheckForNull CNode current, @CheckForNull CNode proposed) {
+        if (current == null || proposed == null) {
+            return isEmpty(current) && isEmpty(proposed);
+        }
+        if (current instanceof Scalar currentScalar && proposed instanceof Scalar proposedScalar) {
+            return sameValue(currentScalar, proposedScalar);
+        }
+        if (current instanceof Sequence currentSequence && proposed instanceof Sequence proposedSequence) {
+            if (currentSequence.size() != proposedSequence.size()) {
+                return false;
+            }
+            for (int i = 0; i < currentSequence.size(); i++) {
+                if (!same(currentSequence.get(i), proposedSequence.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (current instanceof Mapping currentMapping && proposed instanceof Mapping proposedMapping) {
+            if (currentMapping.size() != proposedMapping.size()) {
+                return false;
+            }
+            for (Map.Entry<String, CNode> entry : proposedMapping.entrySet()) {
+                if (!same(get(currentMapping, entry.getKey()), entry.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        // a describable can be written as its symbol only, or as a mapping with no attributes
+        return sameSymbol(current, proposed) || sameSymbol(proposed, current);
+    }
+
+    private boolean sameValue(Scalar current, Scalar proposed) {
+        final String value = context.getSecretSourceResolver().resolve(proposed.toString());
+        if (current.isSensitiveData()) {
+            return Objects.equals(
+                    Secret.fromString(current.toString()).getPlainText(),
+                    Secret.fromString(value).getPlainText());
+        }
+        return Objects.equals(current.toString(), value);
+    }
+
+    private static boolean sameSymbol(CNode symbol, CNode mapping) {
+        if (!(symbol instanceof Scalar) || !(mapping instanceof Mapping m) || m.size() != 1) {
+            return false;
+        }
+        final CNode value = get(m, symbol.toString());
+        return value != null && isEmpty(value);
+    }
+
+    @CheckForNull
+    private static CNode get(Mapping mapping, String key) {
+        final CNode value = mapping.get(key);
+        if (value != null) {
+            return value;
+        }
+        for (Map.Entry<String, CNode> entry : mapping.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(key)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static boolean isEmpty(@CheckForNull CNode node) {
+        if (node == null) {
+            return true;
+        }
+        if (node instanceof Mapping mapping) {
+            return mapping.isEmpty();
+        }
+        if (node instanceof Sequence sequence) {
+            return sequence.isEmpty();
+        }
+        return false;
+    }
+
+    private String render(CNode node) throws ConfiguratorException {
+        if (node instanceof Scalar scalar) {
+            return scalar.isSensitiveData() ? MASKED : scalar.toString();
+        }
+        final Node yaml = casc.toYaml(mask(node));
+        if (yaml == null) {
+            return "";
+        }
+        StringWriter writer = new StringWriter();
+        try {
+            ConfigurationAsCode.serializeYamlNode(yaml, writer);
+        } catch (IOException e) {
+            throw new ConfiguratorException("Failed to render " + node, e);
+        }
+        return writer.toString().trim();
+    }
+
+    private static CNode mask(CNode node) {
+        if (node instanceof Scalar scalar && scalar.isSensitiveData()) {
+            return new Scalar(MASKED);
+        }
+        if (node instanceof Mapping mapping) {
+            Mapping masked = new Mapping();
+            mapping.forEach((key, value) -> masked.put(key, mask(value)));
+            return masked;
+        }
+        if (node instanceof Sequence sequence) {
+            Sequence masked = new Sequence(sequence.size());
+            sequence.forEach(value -> masked.add(mask(value)));
+            return masked;
+        }
+        return node;
+    }
+}
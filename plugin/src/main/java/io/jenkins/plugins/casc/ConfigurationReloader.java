@@ -0,0 +1,156 @@
+package io.jenkins.plugins.casc;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.ExtensionList;
+import hudson.security.ACL;
+import hudson.security.ACLContext;
+import hudson.util.AtmostOneThreadExecutor;
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import net.sf.json.JSONObject;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Runs configuration reloads one at a time, off the request thread.
+ *
+ * A reload requested while another one is waiting to start is coalesced into the waiting one, as both would apply
+ * the same configuration sources. So at most one reload runs and one waits, whatever the number of requests.
+ * Requests can also be debounced: the waiting reload then only starts once no request came in for a while, so a
+ * burst of requests results in a single reload, plus a trailing one if requests keep coming while it runs.
+ */
+@Extension
+@Restricted(NoExternalUse.class)
+public class ConfigurationReloader {
+
+    private static final Logger LOGGER = Logger.getLogger(ConfigurationReloader.class.getName());
+
+    /**
+     * Number of completed reloads kept for status requests.
+     */
+    private static final int HISTORY = 20;
+
+    private final ExecutorService executor =
+            new AtmostOneThreadExecutor(new NamingThreadFactory(new DaemonThreadFactory(), "ConfigurationReloader"));
+
+    private final AtomicLong ids = new AtomicLong();
+
+    private final AtomicLong coalesced = new AtomicLong();
+
+    private final Map<String, ReloadJob> jobs = new LinkedHashMap<>();
+
+    @CheckForNull
+    private ReloadJob queued;
+
+    public static ConfigurationReloader get() {
+        return ExtensionList.lookupSingleton(ConfigurationReloader.class);
+    }
+
+    /**
+     * Request a reload of the configuration from its standard sources.
+     * @param trigger what requested the reload, for status and logs
+     * @return the reload which will take this request into account, possibly shared with previous requests
+     */
+    @NonNull
+    public ReloadJob submit(@NonNull String trigger) {
+        return submit(trigger, 0);
+    }
+
+    /**
+     * Request a reload of the configuration from its standard sources, once no other request came in for
+     * {@code debounce} milliseconds.
+     * @param trigger what requested the reload, for status and logs
+     * @param debounce quiet period before the reload starts, in milliseconds
+     * @return the reload which will take this request into account, possibly shared with previous requests
+     */
+    @NonNull
+    public synchronized ReloadJob submit(@NonNull String trigger, long debounce) {
+        final long notBefore = System.currentTimeMillis() + Math.max(0, debounce);
+        if (queued != null && queued.getPhase() == ReloadJob.Phase.QUEUED) {
+            queued.coalesce();
+            schedule(queued, notBefore, debounce);
+            coalesced.incrementAndGet();
+            notifyAll();
+            return queued;
+        }
+        final ReloadJob job = new ReloadJob(this, String.valueOf(ids.incrementAndGet()), trigger);
+        schedule(job, notBefore, debounce);
+        queued = job;
+        jobs.put(job.getId(), job);
+        prune();
+        executor.execute(() -> run(job));
+        return job;
+    }
+
+    @CheckForNull
+    public synchronized ReloadJob getJob(@CheckForNull String id) {
+        return id != null ? jobs.get(id) : null;
+    }
+
+    /**
+     * @return number of submitted reloads, and of requests coalesced into them
+     */
+    @NonNull
+    public JSONObject toJSON() {
+        return new JSONObject().element("submitted", ids.get()).element("coalesced", coalesced.get());
+    }
+
+    private void run(ReloadJob job) {
+        synchronized (this) {
+            try {
+                long remaining;
+                while ((remaining = job.getNotBefore() - System.currentTimeMillis()) > 0
+                        && job.getPhase() == ReloadJob.Phase.QUEUED) {
+                    wait(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                job.failed(e);
+            }
+            if (queued == job) {
+                queued = null;
+            }
+        }
+        if (!job.start()) {
+            return;
+        }
+        try (ACLContext ignored = ACL.as2(ACL.SYSTEM2)) {
+            ConfigurationAsCode.get().configure(job);
+            job.succeeded();
+        } catch (Throwable t) {
+            if (job.getPhase() != ReloadJob.Phase.CANCELLED) {
+                LOGGER.log(Level.WARNING, "Configuration reload " + job.getId() + " failed", t);
+            }
+            job.failed(t);
+        }
+    }
+
+    private static void schedule(ReloadJob job, long notBefore, long debounce) {
+        if (debounce > 0) {
+            job.delay(notBefore);
+        } else {
+            // not debounced, so don't make the request wait for the quiet period of other ones
+            job.hasten(notBefore);
+        }
+    }
+
+    private void prune() {
+        final Iterator<ReloadJob> it = jobs.values().iterator();
+        int removable = jobs.size() - HISTORY;
+        while (removable > 0 && it.hasNext()) {
+            if (it.next().getPhase().isDone()) {
+                it.remove();
+                removable--;
+            }
+        }
+    }
+}
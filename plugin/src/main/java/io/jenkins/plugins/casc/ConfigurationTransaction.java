@@ -0,0 +1,100 @@
+package io.jenkins.plugins.casc;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Util;
+import hudson.model.Saveable;
+import hudson.util.XStream2;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jenkins.model.Jenkins;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Keeps the state of every {@link Saveable} touched while applying a configuration, so they can all be restored if
+ * applying fails midway, instead of leaving the controller partially configured.
+ *
+ * State is captured as XML before the first change, and restored in place then saved, the same way
+ * {@link hudson.XmlFile#unmarshalNullingOut} reloads configuration from disk: fields missing from the snapshot, such as
+ * ones which were {@code null}, are reset as well.
+ *
+ * Only objects configured through {@link BaseConfigurator#configure} are recorded. A rollback doesn't restore:
+ * <ul>
+ *     <li>objects created while applying the configuration, e.g. nodes added by {@link Jenkins#addNode}, jobs created
+ *     by the {@code jobs} root element or users created by the security realm,</li>
+ *     <li>objects which aren't {@link Saveable},</li>
+ *     <li>state changed by configurators which don't extend {@link BaseConfigurator}, or which override its
+ *     {@code configure} method.</li>
+ * </ul>
+ */
+@Restricted(NoExternalUse.class)
+public final class ConfigurationTransaction {
+
+    private static final Logger LOGGER = Logger.getLogger(ConfigurationTransaction.class.getName());
+
+    public static final String CASC_APPLY_TRANSACTIONAL_ENV = "CASC_APPLY_TRANSACTIONAL";
+    public static final String CASC_APPLY_TRANSACTIONAL_PROPERTY = "casc.apply.transactional";
+
+    private final Map<Saveable, String> snapshots = new IdentityHashMap<>();
+    private final List<Saveable> touched = new ArrayList<>();
+
+    /**
+     * @return {@code true} if configuration should be applied in a transaction, to be rolled back if applying fails
+     */
+    public static boolean isEnabled() {
+        final String value = Util.fixEmptyAndTrim(
+                System.getProperty(CASC_APPLY_TRANSACTIONAL_PROPERTY, System.getenv(CASC_APPLY_TRANSACTIONAL_ENV)));
+        return Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Record the state of an object about to be configured, unless already recorded.
+     */
+    public synchronized void touch(@NonNull Saveable saveable) {
+        if (snapshots.containsKey(saveable)) {
+            return;
+        }
+        String xml;
+        try {
+            xml = Jenkins.XSTREAM2.toXML(saveable);
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Failed to record the state of " + saveable + ", it can't be rolled back", e);
+            xml = null;
+        }
+        snapshots.put(saveable, xml);
+        touched.add(saveable);
+    }
+
+    /**
+     * Restore all touched objects, most recently touched first.
+     * @return number of objects which could not be restored
+     */
+    public synchronized int rollback() {
+        int failures = 0;
+        final List<Saveable> saveables = new ArrayList<>(touched);
+        Collections.reverse(saveables);
+        for (Saveable saveable : saveables) {
+            final String xml = snapshots.get(saveable);
+            if (xml == null) {
+                failures++;
+                continue;
+            }
+            try {
+                Jenkins.XSTREAM2.unmarshal(
+                        XStream2.getDefaultDriver().createReader(new StringReader(xml)), saveable, null, true);
+                saveable.save();
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Failed to roll back " + saveable, e);
+                failures++;
+            }
+        }
+        LOGGER.log(Level.INFO, "Rolled back {0} configured objects", saveables.size() - failures);
+        return failures;
+    }
+}
@@ -0,0 +1,391 @@
+package io.jenkins.plugins.casc;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import hudson.Extension;
+import hudson.ExtensionList;
+import hudson.init.InitMilestone;
+import hudson.init.Initializer;
+import hudson.init.Terminator;
+import io.jenkins.plugins.casc.fetcher.LocalFileSystemFetcher;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Reloads configuration when YAML files of local configuration sources change.
+ *
+ * Disabled by default. When enabled, changes are detected with a {@link WatchService}, or by comparing file
+ * timestamps periodically if the file system doesn't support it, or if polling is requested, e.g. for network or
+ * container mounted volumes which don't report changes.
+ * Reloads go through {@link ConfigurationReloader}, debounced, so saving several files results in a single reload.
+ */
+@Extension
+@Restricted(NoExternalUse.class)
+public class ConfigurationWatcher {
+
+    private static final Logger LOGGER = Logger.getLogger(ConfigurationWatcher.class.getName());
+
+    /**
+     * {@code true} to watch local configuration sources, {@code poll} to check them periodically instead.
+     */
+    public static final String WATCH_PROPERTY = "casc.reload.watch";
+
+    public static final String CASC_RELOAD_WATCH_ENV = "CASC_RELOAD_WATCH";
+
+    /**
+     * Quiet period in milliseconds before reloading, so a reload doesn't start while files are still being written.
+     */
+    public static final String WATCH_DEBOUNCE_PROPERTY = "casc.reload.watch.debounce";
+
+    /**
+     * Interval in milliseconds between checks when polling, and between checks for changed sources otherwise.
+     */
+    public static final String WATCH_INTERVAL_PROPERTY = "casc.reload.watch.interval";
+
+    private static final String POLL = "poll";
+
+    private static final PathMatcher YAML_FILES =
+            FileSystems.getDefault().getPathMatcher("glob:**.{yml,yaml,YAML,YML}");
+
+    @CheckForNull
+    private volatile Thread thread;
+
+    public static ConfigurationWatcher get() {
+        return ExtensionList.lookupSingleton(ConfigurationWatcher.class);
+    }
+
+    @Initializer(after = InitMilestone.JOB_CONFIG_ADAPTED)
+    public static void init() {
+        final String mode = getMode();
+        if (Boolean.parseBoolean(mode) || POLL.equalsIgnoreCase(mode)) {
+            get().start();
+        }
+    }
+
+    @Terminator
+    public static void shutdown() {
+        get().stop();
+    }
+
+    synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        final Thread watcher = new Thread(this::watch, "ConfigurationWatcher");
+        watcher.setDaemon(true);
+        thread = watcher;
+        watcher.start();
+    }
+
+    synchronized void stop() {
+        final Thread watcher = thread;
+        thread = null;
+        if (watcher != null) {
+            watcher.interrupt();
+        }
+    }
+
+    private static String getMode() {
+        final String env = System.getenv(CASC_RELOAD_WATCH_ENV);
+        if (StringUtils.isNotBlank(env)) {
+            return env;
+        }
+        return System.getProperty(WATCH_PROPERTY, "false");
+    }
+
+    private void watch() {
+        final long interval = Math.max(10, NumberUtils.toLong(System.getProperty(WATCH_INTERVAL_PROPERTY), 5000));
+        final long debounce = NumberUtils.toLong(System.getProperty(WATCH_DEBOUNCE_PROPERTY), 2000);
+
+        Watch watch = null;
+        List<Path> roots = null;
+        boolean failing = false;
+        try {
+            while (thread == Thread.currentThread()) {
+                try {
+                    // sources may have been replaced since last check
+                    final List<Path> current = localRoots();
+                    if (!current.equals(roots)) {
+                        close(watch);
+                        watch = null;
+                        watch = POLL.equalsIgnoreCase(getMode()) ? new Poll(current) : Watch.of(current);
+                        roots = current;
+                        LOGGER.log(Level.FINE, "Watching {0} for configuration changes", roots);
+                    }
+                    final Set<Path> changed = watch.changes(interval);
+                    failing = false;
+                    if (!changed.isEmpty()) {
+                        LOGGER.log(Level.INFO, "Configuration changed, reloading: {0}", changed);
+                        ConfigurationReloader.get().submit("watch", debounce);
+                    }
+                } catch (RuntimeException | IOException e) {
+                    // e.g. sources moved while being walked, start over with the current ones
+                    LOGGER.log(failing ? Level.FINE : Level.WARNING, "Failed to watch configuration changes, retrying", e);
+                    failing = true;
+                    close(watch);
+                    watch = null;
+                    roots = null;
+                    Thread.sleep(interval);
+                }
+            }
+        } catch (InterruptedException e) {
+            // stopped
+        } finally {
+            close(watch);
+        }
+    }
+
+    /**
+     * @return {@code true} if the watcher thread is running
+     */
+    boolean isRunning() {
+        final Thread watcher = thread;
+        return watcher != null && watcher.isAlive();
+    }
+
+    private static void close(@CheckForNull Watch watch) {
+        if (watch == null) {
+            return;
+        }
+        try {
+            watch.close();
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Failed to stop watching configuration sources", e);
+        }
+    }
+
+    /**
+     * @return local configuration sources, files or directories
+     */
+    private static List<Path> localRoots() {
+        final List<Path> roots = new ArrayList<>();
+        for (String source : ConfigurationAsCode.get().getSources()) {
+            try {
+                final Path path = LocalFileSystemFetcher.toPath(source);
+                if (Files.exists(path)) {
+                    roots.add(path.toAbsolutePath().normalize());
+                }
+            } catch (IOException | RuntimeException e) {
+                // not a local source
+            }
+        }
+        return roots;
+    }
+
+    private static boolean isYaml(Path path) {
+        return YAML_FILES.matches(path);
+    }
+
+    /**
+     * Detects changes to YAML files below a set of roots.
+     */
+    abstract static class Watch implements AutoCloseable {
+
+        /**
+         * Wait for changes.
+         * @param timeout maximum time to wait for, in milliseconds
+         * @return changed files, empty if none changed within timeout
+         */
+        abstract Set<Path> changes(long timeout) throws IOException, InterruptedException;
+
+        @Override
+        public void close() throws IOException {}
+
+        static Watch of(List<Path> roots) throws IOException {
+            try {
+                return new Notify(roots);
+            } catch (IOException | UnsupportedOperationException e) {
+                LOGGER.log(Level.INFO, "Can't watch configuration sources, checking them periodically instead", e);
+                return new Poll(roots);
+            }
+        }
+    }
+
+    /**
+     * Relies on file system notifications, watching every directory below the roots as they are not recursive.
+     */
+    static final class Notify extends Watch {
+
+        private final WatchService service;
+        private final Map<WatchKey, Path> directories = new HashMap<>();
+        private final Set<Path> roots = new HashSet<>();
+        private final Set<Path> files = new HashSet<>();
+
+        Notify(List<Path> sources) throws IOException {
+            service = FileSystems.getDefault().newWatchService();
+            try {
+                for (Path source : sources) {
+                    if (Files.isDirectory(source)) {
+                        roots.add(source);
+                        registerAll(source);
+                    } else if (source.getParent() != null) {
+                        // only changes to the file itself matter, not to its siblings
+                        files.add(source);
+                        register(source.getParent());
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                service.close();
+                throw e;
+            }
+        }
+
+        private void registerAll(Path root) throws IOException {
+            try (Stream<Path> stream = Files.find(
+                    root, Integer.MAX_VALUE, (path, attrs) -> attrs.isDirectory(), FileVisitOption.FOLLOW_LINKS)) {
+                for (Path directory : (Iterable<Path>) stream::iterator) {
+                    register(directory);
+                }
+            }
+        }
+
+        /**
+         * Watch a directory created below a root, which may already have been deleted again.
+         */
+        void registerCreated(Path directory) {
+            try {
+                registerAll(directory);
+            } catch (IOException | UncheckedIOException e) {
+                LOGGER.log(Level.FINE, "Failed to watch " + directory + ", it may have been deleted since created", e);
+            }
+        }
+
+        private void register(Path directory) throws IOException {
+            directories.put(directory.register(service, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), directory);
+        }
+
+        private boolean isBelowRoot(Path path) {
+            for (Path root : roots) {
+                if (path.startsWith(root)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        Set<Path> changes(long timeout) throws IOException, InterruptedException {
+            final Set<Path> changed = new HashSet<>();
+            WatchKey key = service.poll(timeout, TimeUnit.MILLISECONDS);
+            while (key != null) {
+                final Path directory = directories.get(key);
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (directory == null) {
+                        continue;
+                    }
+                    if (event.kind() == OVERFLOW) {
+                        changed.add(directory);
+                        continue;
+                    }
+                    final Path path = directory.resolve((Path) event.context());
+                    if (files.contains(path)) {
+                        changed.add(path);
+                    } else if (isBelowRoot(path)) {
+                        if (event.kind() == ENTRY_CREATE && Files.isDirectory(path)) {
+                            // files may have been written before the directory is watched
+                            registerCreated(path);
+                            changed.add(path);
+                        } else if (isYaml(path)) {
+                            changed.add(path);
+                        }
+                    }
+                }
+                if (!key.reset()) {
+                    directories.remove(key);
+                }
+                key = service.poll();
+            }
+            return changed;
+        }
+
+        @Override
+        public void close() throws IOException {
+            service.close();
+        }
+    }
+
+    /**
+     * Compares modification times and sizes of YAML files periodically.
+     */
+    private static final class Poll extends Watch {
+
+        private final List<Path> roots;
+        private Map<Path, String> snapshot;
+
+        Poll(List<Path> roots) throws IOException {
+            this.roots = roots;
+            this.snapshot = snapshot();
+        }
+
+        @Override
+        Set<Path> changes(long timeout) throws IOException, InterruptedException {
+            Thread.sleep(timeout);
+            final Map<Path, String> next = snapshot();
+            final Set<Path> changed = new HashSet<>();
+            next.forEach((path, state) -> {
+                if (!state.equals(snapshot.get(path))) {
+                    changed.add(path);
+                }
+            });
+            for (Path path : snapshot.keySet()) {
+                if (!next.containsKey(path)) {
+                    changed.add(path);
+                }
+            }
+            snapshot = next;
+            return changed;
+        }
+
+        private Map<Path, String> snapshot() throws IOException {
+            final Map<Path, String> files = new HashMap<>();
+            for (Path root : roots) {
+                if (!Files.exists(root)) {
+                    continue;
+                }
+                try (Stream<Path> stream = Files.find(
+                        root,
+                        Integer.MAX_VALUE,
+                        (path, attrs) -> attrs.isRegularFile() && (path.equals(root) || isYaml(path)),
+                        FileVisitOption.FOLLOW_LINKS)) {
+                    for (Path path : (Iterable<Path>) stream::iterator) {
+                        try {
+                            final BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+                            files.put(path, attrs.lastModifiedTime() + "/" + attrs.size());
+                        } catch (NoSuchFileException e) {
+                            // deleted since found, it will be reported as deleted if it was known
+                        }
+                    }
+                }
+            }
+            return files;
+        }
+    }
+}
@@ -179,7 +179,7 @@ public interface Configurator<T> {
     @CheckForNull
     default CNode describe(T instance, ConfigurationContext context) throws Exception {
         Mapping mapping = new Mapping();
-        for (Attribute attribute : getAttributes()) {
+        for (Attribute attribute : context.getAttributes(this)) {
             CNode value = attribute.describe(instance, context);
             if (value != null) {
                 mapping.put(attribute.getName(), value);
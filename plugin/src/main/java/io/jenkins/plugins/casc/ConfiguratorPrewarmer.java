@@ -0,0 +1,212 @@
+package io.jenkins.plugins.casc;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.ExtensionList;
+import hudson.init.InitMilestone;
+import hudson.init.Initializer;
+import hudson.security.ACL;
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+import io.jenkins.plugins.casc.impl.DefaultConfiguratorRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jenkins.security.ImpersonatingExecutorService;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Resolves configurators of all root elements, of their attributes and of the implementations of the extension
+ * points they expose on background threads, as soon as extensions are available, so the configuration applied on
+ * startup doesn't have to do it all on the critical boot path.
+ *
+ * This warms up the registry, the binding of {@link org.kohsuke.stapler.DataBoundConstructor}s, the descriptors of
+ * extension points by symbol, and the reflection data of every configurable type. Disabled by default, as it resolves
+ * configurators of every root element while startup configuration only needs those present in the YAML.
+ */
+@Extension
+@Restricted(NoExternalUse.class)
+public class ConfiguratorPrewarmer {
+
+    private static final Logger LOGGER = Logger.getLogger(ConfiguratorPrewarmer.class.getName());
+
+    /**
+     * {@code true} to enable prewarming.
+     */
+    public static final String PREWARM_PROPERTY = "casc.prewarm";
+
+    public static final String CASC_PREWARM_ENV = "CASC_PREWARM";
+
+    /**
+     * Maximum number of root elements warmed up at the same time.
+     */
+    public static final String PREWARM_THREADS_PROPERTY = "casc.prewarm.threads";
+
+    /**
+     * Maximum time in milliseconds startup configuration waits for prewarming to complete.
+     */
+    public static final String PREWARM_TIMEOUT_PROPERTY = "casc.prewarm.timeout";
+
+    private static final long DEFAULT_TIMEOUT = 5000;
+
+    @CheckForNull
+    private volatile CompletableFuture<Integer> prewarm;
+
+    private volatile long started;
+
+    private volatile long elapsed;
+
+    public static ConfiguratorPrewarmer get() {
+        return ExtensionList.lookupSingleton(ConfiguratorPrewarmer.class);
+    }
+
+    @Initializer(after = InitMilestone.EXTENSIONS_AUGMENTED, before = InitMilestone.SYSTEM_CONFIG_LOADED)
+    public static void init() {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            get().start();
+        } catch (RuntimeException e) {
+            // only an optimization, configuration will resolve configurators itself
+            LOGGER.log(Level.FINE, "Failed to start prewarming configurators", e);
+        }
+    }
+
+    static boolean isEnabled() {
+        final String env = System.getenv(CASC_PREWARM_ENV);
+        if (StringUtils.isNotBlank(env)) {
+            return Boolean.parseBoolean(env.trim());
+        }
+        return Boolean.parseBoolean(System.getProperty(PREWARM_PROPERTY));
+    }
+
+    /**
+     * Start warming up configurators in background, unless already started.
+     */
+    synchronized void start() {
+        if (prewarm != null) {
+            return;
+        }
+        final List<RootElementConfigurator> roots = RootElementConfigurator.all();
+        final DefaultConfiguratorRegistry registry = ExtensionList.lookupSingleton(DefaultConfiguratorRegistry.class);
+        final Set<Class<?>> visited = ConcurrentHashMap.newKeySet();
+        final AtomicInteger failures = new AtomicInteger();
+        final int threads = Math.max(1, Math.min(roots.size(), getThreads()));
+        final ExecutorService pool = new ImpersonatingExecutorService(
+                Executors.newFixedThreadPool(
+                        threads, new NamingThreadFactory(new DaemonThreadFactory(), "ConfiguratorPrewarmer")),
+                ACL.SYSTEM2);
+
+        started = System.nanoTime();
+        final List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        for (RootElementConfigurator root : roots) {
+            tasks.add(CompletableFuture.runAsync(
+                    () -> warm(root, new ConfigurationContext(registry), visited, failures), pool));
+        }
+        prewarm = CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0]))
+                .handle((ignored, e) -> {
+                    pool.shutdown();
+                    elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                    LOGGER.log(
+                            Level.FINE,
+                            "Prewarmed {0} configurators in {1}ms, {2} failed",
+                            new Object[] {visited.size(), elapsed, failures.get()});
+                    return visited.size();
+                });
+    }
+
+    /**
+     * Walk the configurators reachable from one configurator, depth first, skipping types already warmed up by any
+     * thread. Failures only affect the type they occurred for, as configuration will report them anyway.
+     */
+    private static void warm(
+            @NonNull Configurator<?> configurator,
+            @NonNull ConfigurationContext context,
+            @NonNull Set<Class<?>> visited,
+            @NonNull AtomicInteger failures) {
+        final Set<? extends Attribute<?, ?>> attributes;
+        try {
+            attributes = context.describe(configurator);
+        } catch (RuntimeException | LinkageError e) {
+            failures.incrementAndGet();
+            LOGGER.log(Level.FINE, "Failed to prewarm " + configurator.getTarget(), e);
+            return;
+        }
+        for (Attribute<?, ?> attribute : attributes) {
+            final List<? extends Configurator<?>> configurators;
+            try {
+                final Configurator<?> lookup = context.lookup(attribute.getType());
+                if (lookup == null) {
+                    continue;
+                }
+                configurators = lookup.getConfigurators(context);
+            } catch (RuntimeException | LinkageError e) {
+                failures.incrementAndGet();
+                LOGGER.log(Level.FINE, "Failed to prewarm " + attribute.getType(), e);
+                continue;
+            }
+            for (Configurator<?> next : configurators) {
+                if (visited.add(next.getTarget())) {
+                    warm(next, context, visited, failures);
+                }
+            }
+        }
+    }
+
+    /**
+     * Wait for prewarming to complete, so startup configuration doesn't resolve the same configurators concurrently,
+     * and report how long prewarming took and how long startup configuration waited for it. Returns immediately if
+     * prewarming wasn't started.
+     */
+    void await() {
+        final CompletableFuture<Integer> future = prewarm;
+        if (future == null) {
+            return;
+        }
+        final long timeout = NumberUtils.toLong(System.getProperty(PREWARM_TIMEOUT_PROPERTY), DEFAULT_TIMEOUT);
+        final long start = System.nanoTime();
+        try {
+            final int warmed = future.get(Math.max(0, timeout), TimeUnit.MILLISECONDS);
+            final long waited = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            LOGGER.log(
+                    Level.INFO,
+                    "Prewarmed {0} configurators in {1}ms in background, startup configuration waited {2}ms for it",
+                    new Object[] {warmed, elapsed, waited});
+        } catch (TimeoutException e) {
+            LOGGER.log(Level.INFO, "Prewarming configurators still running after {0}ms, not waiting for it", timeout);
+        } catch (ExecutionException e) {
+            LOGGER.log(Level.FINE, "Failed to prewarm configurators", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return number of configurators warmed up, or {@code null} if prewarming wasn't started or is still running
+     */
+    @CheckForNull
+    Integer getWarmed() {
+        final CompletableFuture<Integer> future = prewarm;
+        return future != null && future.isDone() ? future.getNow(null) : null;
+    }
+
+    private static int getThreads() {
+        return NumberUtils.toInt(
+                System.getProperty(PREWARM_THREADS_PROPERTY), Math.min(4, Runtime.getRuntime().availableProcessors()));
+    }
+}
@@ -0,0 +1,162 @@
+package io.jenkins.plugins.casc;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Util;
+import hudson.model.Saveable;
+import hudson.security.ACL;
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+import io.jenkins.plugins.casc.metrics.ConfigurationMetrics;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import jenkins.security.ImpersonatingExecutorService;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Collects {@link Saveable}s configured while applying a configuration, so each of them is saved once when the whole
+ * configuration has been applied, rather than every time a configurator is done with it.
+ *
+ * Disabled by default. Objects are saved one after the other, unless more threads are allowed, as some objects are
+ * persisted by their owner, so several of them may write the same file.
+ */
+@Restricted(NoExternalUse.class)
+public final class DeferredSaves {
+
+    /**
+     * {@code true} to save configured objects once the whole configuration has been applied.
+     */
+    public static final String CASC_APPLY_DEFER_SAVES_PROPERTY = "casc.apply.deferSaves";
+
+    public static final String CASC_APPLY_DEFER_SAVES_ENV = "CASC_APPLY_DEFER_SAVES";
+
+    /**
+     * Maximum number of objects saved at the same time, 1 by default.
+     */
+    public static final String SAVE_THREADS_PROPERTY = "casc.apply.save.threads";
+
+    private final Map<Saveable, Class<?>> dirty = new IdentityHashMap<>();
+    private final List<Saveable> order = new ArrayList<>();
+
+    /**
+     * @return {@code true} if configured objects should be saved once the whole configuration has been applied
+     */
+    public static boolean isEnabled() {
+        final String value = Util.fixEmptyAndTrim(
+                System.getProperty(CASC_APPLY_DEFER_SAVES_PROPERTY, System.getenv(CASC_APPLY_DEFER_SAVES_ENV)));
+        return Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Mark an object as needing to be saved.
+     * @param target type the object was configured as, for metrics
+     */
+    public synchronized void add(@NonNull Saveable saveable, @NonNull Class<?> target) {
+        if (dirty.putIfAbsent(saveable, target) == null) {
+            order.add(saveable);
+        }
+    }
+
+    /**
+     * @return number of objects waiting to be saved
+     */
+    public synchronized int size() {
+        return order.size();
+    }
+
+    /**
+     * Forget about objects waiting to be saved, e.g. because they have been rolled back.
+     */
+    public synchronized void discard() {
+        dirty.clear();
+        order.clear();
+    }
+
+    /**
+     * Save all objects marked so far, each of them once.
+     * @throws ConfiguratorException at least one object failed to save. Others are saved regardless.
+     */
+    public void flush() throws ConfiguratorException {
+        final List<Saveable> pending;
+        final Map<Saveable, Class<?>> targets;
+        synchronized (this) {
+            pending = new ArrayList<>(order);
+            targets = new IdentityHashMap<>(dirty);
+            discard();
+        }
+        final int threads = Math.min(pending.size(), getSaveThreads());
+        if (threads <= 1) {
+            ConfiguratorException failure = null;
+            for (Saveable saveable : pending) {
+                try {
+                    save(saveable, targets.get(saveable));
+                } catch (IOException e) {
+                    failure = failure(failure, saveable, e);
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return;
+        }
+
+        final ExecutorService pool = new ImpersonatingExecutorService(
+                Executors.newFixedThreadPool(
+                        threads, new NamingThreadFactory(new DaemonThreadFactory(), "DeferredSaves")),
+                ACL.SYSTEM2);
+        try {
+            final List<Callable<Void>> tasks = new ArrayList<>();
+            for (Saveable saveable : pending) {
+                tasks.add(() -> {
+                    save(saveable, targets.get(saveable));
+                    return null;
+                });
+            }
+            final List<Future<Void>> results = pool.invokeAll(tasks);
+            ConfiguratorException failure = null;
+            for (int i = 0; i < results.size(); i++) {
+                try {
+                    results.get(i).get();
+                } catch (ExecutionException e) {
+                    failure = failure(failure, pending.get(i), e.getCause());
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConfiguratorException("Interrupted while saving configuration", e);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void save(Saveable saveable, Class<?> target) throws IOException {
+        final long start = System.nanoTime();
+        saveable.save();
+        ConfigurationMetrics.get().save(target, System.nanoTime() - start);
+    }
+
+    private static ConfiguratorException failure(ConfiguratorException failure, Saveable saveable, Throwable cause) {
+        final ConfiguratorException e = new ConfiguratorException("Failed to save " + saveable, cause);
+        if (failure == null) {
+            return e;
+        }
+        failure.addSuppressed(e);
+        return failure;
+    }
+
+    private static int getSaveThreads() {
+        return Math.max(1, NumberUtils.toInt(System.getProperty(SAVE_THREADS_PROPERTY), 1));
+    }
+}
@@ -0,0 +1,24 @@
+package io.jenkins.plugins.casc;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requests a {@link Configurator} to be generated at build time for a class with a
+ * {@link org.kohsuke.stapler.DataBoundConstructor}, so configuring and exporting it doesn't rely on reflection.
+ * <p>
+ * Generation is done by the {@code io.jenkins.configuration-as-code:annotation-processor} annotation processor, which
+ * plugins have to add to their build. The generated configurator is named after the annotated class, with nested class
+ * names joined by {@code _} and a {@code _CascConfigurator} suffix, in the same package. It is preferred over the
+ * reflective one when present, while classes the annotation processor can't handle keep being configured by
+ * reflection.
+ *
+ * @see io.jenkins.plugins.casc.impl.configurators.GeneratedConfigurator
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface GenerateConfigurator {}
@@ -0,0 +1,286 @@
+package io.jenkins.plugins.casc;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Util;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Precomputed content of the reference documentation page, including attributes help, so page views don't have to
+ * walk all configurators and load help resources again.
+ * The model is grouped by root element so the page can render one root at a time.
+ */
+@Restricted(NoExternalUse.class)
+public final class ReferenceModel implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = Logger.getLogger(ReferenceModel.class.getName());
+
+    private final String plugins;
+    private final List<Root> roots;
+
+    /**
+     * Name of the root each configurator is documented under, keyed by its anchor.
+     */
+    private final Map<String, String> owners;
+
+    ReferenceModel(String plugins, List<Root> roots) {
+        this.plugins = plugins;
+        this.roots = List.copyOf(roots);
+        final Map<String, String> owners = new HashMap<>();
+        for (Root root : roots) {
+            for (Entry entry : root.getConfigurators()) {
+                owners.putIfAbsent(entry.getAnchor(), root.getName());
+            }
+        }
+        this.owners = Map.copyOf(owners);
+    }
+
+    /**
+     * @return installed plugins the model was built with
+     */
+    String getPlugins() {
+        return plugins;
+    }
+
+    public List<Root> getRoots() {
+        return roots;
+    }
+
+    /**
+     * @param name root element name, or {@code null} for the first one
+     * @return {@code null} if there is no such root element
+     */
+    @CheckForNull
+    public Root getRoot(@CheckForNull String name) {
+        if (name == null) {
+            return roots.isEmpty() ? null : roots.get(0);
+        }
+        for (Root root : roots) {
+            if (root.getName().equals(name)) {
+                return root;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Link to the documentation of a configurator, which may be rendered under another root than the current one.
+     * @param type simple name of the API the configurator handles
+     * @param name name of the configurator
+     * @return {@code null} if the configurator isn't documented
+     */
+    @CheckForNull
+    public String getLink(String type, String name) {
+        final String anchor = type + "-" + name;
+        final String owner = owners.get(anchor);
+        return owner != null ? "?root=" + Util.rawEncode(owner) + "#" + anchor : null;
+    }
+
+    /**
+     * A root element and the configurators first reachable from it.
+     */
+    public static final class Root implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String name;
+        private final List<Entry> configurators;
+
+        Root(String name, List<Entry> configurators) {
+            this.name = name;
+            this.configurators = List.copyOf(configurators);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public List<Entry> getConfigurators() {
+            return configurators;
+        }
+
+        public int getSize() {
+            return configurators.size();
+        }
+    }
+
+    /**
+     * Documentation of a single configurator.
+     */
+    public static final class Entry implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String name;
+        private final String displayName;
+        private final boolean rootElement;
+        private final String implementedApi;
+        private final boolean implementation;
+
+        @CheckForNull
+        private final String extensionSource;
+
+        private final List<Property> attributes;
+
+        private Entry(
+                String name,
+                String displayName,
+                boolean rootElement,
+                String implementedApi,
+                boolean implementation,
+                @CheckForNull String extensionSource,
+                List<Property> attributes) {
+            this.name = name;
+            this.displayName = displayName;
+            this.rootElement = rootElement;
+            this.implementedApi = implementedApi;
+            this.implementation = implementation;
+            this.extensionSource = extensionSource;
+            this.attributes = List.copyOf(attributes);
+        }
+
+        static Entry of(@NonNull BaseConfigurator<?> configurator, @NonNull ConfigurationAsCode casc) {
+            final Class<?> target = configurator.getTarget();
+            final Class<?> api = configurator.getImplementedAPI();
+            final boolean implementation = api != target;
+
+            List<Property> attributes = new ArrayList<>();
+            for (Attribute<?, ?> attribute : configurator.getAttributes()) {
+                attributes.add(new Property(
+                        attribute.getName(),
+                        attribute.isMultiple(),
+                        attribute.getType().getSimpleName(),
+                        help(casc, target, attribute.getName()),
+                        attribute.possibleValues()));
+            }
+            return new Entry(
+                    configurator.getName(),
+                    configurator.getDisplayName(),
+                    configurator instanceof RootElementConfigurator<?> root && root.isRootElement(),
+                    api.getSimpleName(),
+                    implementation,
+                    implementation ? extensionSource(casc, configurator) : null,
+                    attributes);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        public boolean isRootElement() {
+            return rootElement;
+        }
+
+        /**
+         * @return simple name of the API this configurator handles, used as anchor
+         */
+        public String getImplementedApi() {
+            return implementedApi;
+        }
+
+        /**
+         * @return id of the element documenting this configurator
+         */
+        public String getAnchor() {
+            return implementedApi + "-" + name;
+        }
+
+        /**
+         * @return {@code true} if the configurator target is an implementation of an extension point
+         */
+        public boolean isImplementation() {
+            return implementation;
+        }
+
+        @CheckForNull
+        public String getExtensionSource() {
+            return extensionSource;
+        }
+
+        public List<Property> getAttributes() {
+            return attributes;
+        }
+    }
+
+    /**
+     * Documentation of a configurator attribute.
+     */
+    public static final class Property implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String name;
+        private final boolean multiple;
+        private final String type;
+        private final String help;
+        private final List<String> possibleValues;
+
+        Property(String name, boolean multiple, String type, String help, List<String> possibleValues) {
+            this.name = name;
+            this.multiple = multiple;
+            this.type = type;
+            this.help = help;
+            this.possibleValues = List.copyOf(possibleValues);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isMultiple() {
+            return multiple;
+        }
+
+        /**
+         * @return simple name of the attribute type
+         */
+        public String getType() {
+            return type;
+        }
+
+        /**
+         * @return html help, may be empty
+         */
+        public String getHelp() {
+            return help;
+        }
+
+        public List<String> getPossibleValues() {
+            return possibleValues;
+        }
+    }
+
+    private static String help(ConfigurationAsCode casc, Class<?> target, String attribute) {
+        try {
+            return casc.getHtmlHelp(target, attribute);
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Failed to read help for " + target.getName() + "#" + attribute, e);
+            return "";
+        }
+    }
+
+    @CheckForNull
+    private static String extensionSource(ConfigurationAsCode casc, Configurator<?> configurator) {
+        try {
+            return casc.getExtensionSource(configurator);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.FINE, "Failed to find the source of " + configurator.getImplementedAPI(), e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package io.jenkins.plugins.casc;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import net.sf.json.JSONObject;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * A configuration reload submitted to {@link ConfigurationReloader}, which callers can poll, wait for or cancel.
+ */
+@Restricted(NoExternalUse.class)
+public final class ReloadJob {
+
+    public enum Phase {
+        /** Waiting for a previous reload to complete. Further reload requests are coalesced into this one. */
+        QUEUED,
+        /** Fetching configuration sources. */
+        FETCHING,
+        /** Checking configuration, nothing has been applied yet. */
+        CHECKING,
+        /** Applying configuration, root element by root element. Can't be cancelled anymore. */
+        APPLYING,
+        SUCCEEDED,
+        FAILED,
+        CANCELLED;
+
+        public boolean isDone() {
+            return this == SUCCEEDED || this == FAILED || this == CANCELLED;
+        }
+    }
+
+    private final ConfigurationReloader reloader;
+    private final String id;
+    private final String trigger;
+    private final long submitted = System.currentTimeMillis();
+    private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+    private Phase phase = Phase.QUEUED;
+    private int coalesced;
+    private int applied;
+    private int total;
+    private long notBefore;
+    private boolean immediate;
+    private long started;
+    private long finished;
+
+    @CheckForNull
+    private String error;
+
+    ReloadJob(ConfigurationReloader reloader, String id, String trigger) {
+        this.reloader = reloader;
+        this.id = id;
+        this.trigger = trigger;
+    }
+
+    @NonNull
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return what first requested this reload, e.g. {@code token} or {@code cli}
+     */
+    @NonNull
+    public String getTrigger() {
+        return trigger;
+    }
+
+    @NonNull
+    public synchronized Phase getPhase() {
+        return phase;
+    }
+
+    /**
+     * @return number of reload requests merged into this one while it was queued
+     */
+    public synchronized int getCoalesced() {
+        return coalesced;
+    }
+
+    /**
+     * @return error message if the reload failed
+     */
+    @CheckForNull
+    public synchronized String getError() {
+        return error;
+    }
+
+    /**
+     * Cancel this reload, unless it already started applying configuration.
+     * @return {@code true} if the reload is, or already was, cancelled
+     */
+    public boolean cancel() {
+        synchronized (this) {
+            if (phase == Phase.CANCELLED) {
+                return true;
+            }
+            if (phase == Phase.APPLYING || phase.isDone()) {
+                return false;
+            }
+            finish(Phase.CANCELLED, null);
+        }
+        // the reloader may be waiting for this reload's debounce delay, let it move on to the next one
+        synchronized (reloader) {
+            reloader.notifyAll();
+        }
+        return true;
+    }
+
+    /**
+     * Wait for this reload to complete.
+     * @throws ConfiguratorException the reload failed or was cancelled
+     */
+    public void await() throws ConfiguratorException, InterruptedException {
+        try {
+            done.get();
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof ConfiguratorException configuratorException) {
+                throw configuratorException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ConfiguratorException("Configuration reload " + id + " failed", cause);
+        }
+        if (getPhase() == Phase.CANCELLED) {
+            throw new ConfiguratorException("Configuration reload " + id + " was cancelled");
+        }
+    }
+
+    public synchronized JSONObject toJSON() {
+        return new JSONObject()
+                .element("id", id)
+                .element("trigger", trigger)
+                .element("phase", phase.name())
+                .element("coalesced", coalesced)
+                .element("applied", applied)
+                .element("total", total)
+                .element("submitted", submitted)
+                .element("started", started)
+                .element("finished", finished)
+                .element("error", error);
+    }
+
+    synchronized void coalesce() {
+        coalesced++;
+    }
+
+    /**
+     * Postpone the start of this reload, if queued and no immediate reload was requested.
+     * @param notBefore earliest start time, in milliseconds
+     */
+    synchronized void delay(long notBefore) {
+        if (!immediate) {
+            this.notBefore = Math.max(this.notBefore, notBefore);
+        }
+    }
+
+    /**
+     * Bring forward the start of this reload, if queued, e.g. when an immediate reload is coalesced into a debounced
+     * one. Later requests don't postpone it anymore.
+     * @param notBefore earliest start time, in milliseconds
+     */
+    synchronized void hasten(long notBefore) {
+        this.notBefore = Math.min(this.notBefore, notBefore);
+        immediate = true;
+    }
+
+    synchronized long getNotBefore() {
+        return notBefore;
+    }
+
+    /**
+     * @return {@code false} if the reload was cancelled while queued
+     */
+    synchronized boolean start() {
+        if (phase != Phase.QUEUED) {
+            return false;
+        }
+        started = System.currentTimeMillis();
+        phase = Phase.FETCHING;
+        return true;
+    }
+
+    synchronized void checking() {
+        checkNotCancelled();
+        phase = Phase.CHECKING;
+    }
+
+    /**
+     * Enter the apply phase, from which the reload can't be cancelled anymore.
+     * @param total number of root elements to apply
+     */
+    synchronized void applying(int total) {
+        checkNotCancelled();
+        this.total = total;
+        phase = Phase.APPLYING;
+    }
+
+    synchronized void applied() {
+        applied++;
+    }
+
+    synchronized void succeeded() {
+        finish(Phase.SUCCEEDED, null);
+    }
+
+    synchronized void failed(Throwable t) {
+        if (t instanceof CancellationException) {
+            finish(Phase.CANCELLED, null);
+            return;
+        }
+        finish(Phase.FAILED, t);
+    }
+
+    private void checkNotCancelled() {
+        if (phase == Phase.CANCELLED) {
+            throw new CancellationException("Configuration reload " + id + " was cancelled");
+        }
+    }
+
+    private void finish(Phase phase, @CheckForNull Throwable t) {
+        if (this.phase.isDone()) {
+            return;
+        }
+        this.phase = phase;
+        this.finished = System.currentTimeMillis();
+        if (t == null) {
+            done.complete(null);
+        } else {
+            this.error = t.getMessage() != null ? t.getMessage() : t.getClass().getName();
+            done.completeExceptionally(t);
+        }
+    }
+}
@@ -52,11 +52,21 @@ public interface RootElementConfigurator<T> extends Configurator<T> {
         return configurators;
     }
 
-    /* This function is used for configurator-pointer in the documentation.jelly file only. */
+    /* This function is used for configurator-pointer in the reference documentation only. */
     default boolean isRootElement() {
         return true;
     }
 
+    /**
+     * Whether this root element may be a huge sequence, which items are better read from the YAML source one at a time
+     * when applying configuration. If so, and streaming is enabled, {@link #configure} and {@link #check} may receive a
+     * {@link io.jenkins.plugins.casc.yaml.StreamedSequence}, to be iterated with
+     * {@link io.jenkins.plugins.casc.yaml.StreamedSequence#forEach}.
+     */
+    default boolean isStreamable() {
+        return false;
+    }
+
     /**
      * Retrieve the target component managed by this RootElementConfigurator
      * @return
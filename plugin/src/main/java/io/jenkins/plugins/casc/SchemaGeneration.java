@@ -1,22 +1,49 @@
 package io.jenkins.plugins.casc;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import hudson.Extension;
+import hudson.ExtensionList;
+import hudson.PluginWrapper;
+import hudson.Util;
+import hudson.init.InitMilestone;
+import hudson.init.Initializer;
+import hudson.security.ACL;
+import hudson.security.ACLContext;
 import io.jenkins.plugins.casc.impl.DefaultConfiguratorRegistry;
 import io.jenkins.plugins.casc.impl.attributes.DescribableAttribute;
 import io.jenkins.plugins.casc.impl.configurators.HeteroDescribableConfigurator;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Level;
 import java.util.logging.Logger;
-import org.json.JSONArray;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+import jenkins.model.Jenkins;
+import jenkins.util.Timer;
 import org.json.JSONObject;
+import org.json.JSONString;
+import org.json.JSONWriter;
 import org.kohsuke.accmod.Restricted;
 import org.kohsuke.accmod.restrictions.Beta;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
 
 @Restricted(Beta.class)
 public class SchemaGeneration {
@@ -29,144 +56,350 @@ public class SchemaGeneration {
             .put("additionalProperties", false)
             .put("type", "object");
 
+    /**
+     * Generated schema for a given set of installed plugins.
+     * @param plugins installed plugins and their versions the schema was generated with
+     * @param json serialized schema
+     * @param gzip {@code json} compressed, ready to be served to clients accepting it
+     * @param etag entity tag identifying {@code json}
+     * @param gzipEtag entity tag identifying {@code gzip}, as both representations are served from the same URL
+     */
+    @Restricted(NoExternalUse.class)
+    public record Schema(String plugins, byte[] json, byte[] gzip, String etag, String gzipEtag) {}
+
+    private record CachedDefinition(Class<?> target, String schema, Set<Class<?>> references)
+            implements JSONString {
+        @Override
+        public String toJSONString() {
+            return schema;
+        }
+    }
+
+    /**
+     * Holds the generated schema for the running instance.
+     */
+    @Extension
+    @Restricted(NoExternalUse.class)
+    public static final class Cache {
+
+        private volatile Schema schema;
+
+        static Cache get() {
+            return ExtensionList.lookupSingleton(Cache.class);
+        }
+    }
+
+    /**
+     * Get the schema for the current set of installed plugins, generating it only if plugins changed since
+     * the last generation.
+     */
+    @Restricted(NoExternalUse.class)
+    public static Schema getSchema() {
+        final Cache cache = Cache.get();
+        final Set<String> plugins = installedPlugins();
+        final String key = String.join(",", plugins);
+        Schema schema = cache.schema;
+        if (schema != null && schema.plugins().equals(key)) {
+            return schema;
+        }
+        synchronized (SchemaGeneration.class) {
+            schema = cache.schema;
+            if (schema != null && schema.plugins().equals(key)) {
+                return schema;
+            }
+            final long start = System.currentTimeMillis();
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+                writeSchema(writer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            final byte[] json = out.toByteArray();
+            final String digest = Util.getHexOfSHA256DigestOf(json);
+            schema = new Schema(key, json, gzip(json), '"' + digest + '"', "\"" + digest + "-gzip\"");
+            cache.schema = schema;
+            LOGGER.log(Level.FINE, "Generated JSON schema in {0}ms", System.currentTimeMillis() - start);
+            return schema;
+        }
+    }
+
+    /**
+     * Generate the schema in the background once Jenkins has started, so the first request doesn't pay for it.
+     */
+    @Restricted(NoExternalUse.class)
+    @Initializer(after = InitMilestone.JOB_CONFIG_ADAPTED)
+    public static void generateInBackground() {
+        Timer.get().submit(() -> {
+            try (ACLContext ignored = ACL.as2(ACL.SYSTEM2)) {
+                getSchema();
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Failed to generate JSON schema", e);
+            }
+        });
+    }
+
+    static Set<String> installedPlugins() {
+        return Jenkins.get().getPluginManager().getPlugins().stream()
+                .filter(PluginWrapper::isActive)
+                .map(SchemaGeneration::pluginKey)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private static String pluginKey(PluginWrapper plugin) {
+        return plugin.getShortName() + ":" + plugin.getVersion();
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
     public static JSONObject generateSchema() {
-        JSONObject schemaObject = new JSONObject(schemaTemplateObject.toString());
-        DefaultConfiguratorRegistry registry = new DefaultConfiguratorRegistry();
+        StringBuilder out = new StringBuilder();
+        writeSchema(out);
+        return new JSONObject(out.toString());
+    }
+
+    public static String writeJSONSchema() {
+        return new String(getSchema().json(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Stream the schema to {@code out}. Definitions are written once, after the root properties, in the order
+     * they are first referenced, so only the definitions still to be written are held in memory.
+     */
+    private static synchronized void writeSchema(Appendable out) {
+        DefaultConfiguratorRegistry registry = ExtensionList.lookupSingleton(DefaultConfiguratorRegistry.class);
         final ConfigurationContext context = new ConfigurationContext(registry);
+        final Definitions definitions = new Definitions();
+
+        JSONWriter writer = new JSONWriter(out).object();
+        for (String key : schemaTemplateObject.keySet()) {
+            writer.key(key).value(schemaTemplateObject.get(key));
+        }
 
-        JSONObject rootConfiguratorProperties = new JSONObject();
-        JSONObject definitions = new JSONObject();
+        writer.key("properties").object();
         for (RootElementConfigurator rootElementConfigurator : RootElementConfigurator.all()) {
-            JSONObject schemaConfiguratorObjects = new JSONObject();
+            writer.key(rootElementConfigurator.getName())
+                    .object()
+                    .key("type")
+                    .value("object")
+                    .key("additionalProperties")
+                    .value(false)
+                    .key("title")
+                    .value("Configuration base for the " + rootElementConfigurator.getName() + " classifier")
+                    .key("properties")
+                    .object();
+
             Set<Object> elements = new LinkedHashSet<>();
             listElements(elements, rootElementConfigurator.describe(), context, true);
+            // the last element wins when several have the same name, as when the schema was assembled in memory
+            Map<String, Object> named = new LinkedHashMap<>();
             for (Object configuratorObject : elements) {
                 if (configuratorObject instanceof BaseConfigurator<?> baseConfigurator) {
-                    JSONObject baseConfigSchema =
-                            generateBaseConfiguratorSchema(baseConfigurator, context, definitions);
-                    schemaConfiguratorObjects.put(baseConfigurator.getName(), baseConfigSchema);
-                    if (baseConfigurator.getTarget() != null) {
-                        definitions.put(baseConfigurator.getTarget().getName(), baseConfigSchema);
-                    }
+                    named.put(baseConfigurator.getName(), baseConfigurator);
+                    definitions.define(baseConfigurator.getTarget(), baseConfigurator);
                 } else if (configuratorObject instanceof HeteroDescribableConfigurator<?> hetero) {
-                    JSONObject heteroSchema = generateHeteroDescribableConfigObject(hetero, context, definitions);
-                    schemaConfiguratorObjects.put(hetero.getName(), heteroSchema);
-                    if (hetero.getTarget() != null) {
-                        definitions.put(hetero.getTarget().getName(), heteroSchema);
-                    }
+                    named.put(hetero.getName(), hetero);
+                    definitions.define(hetero.getTarget(), hetero);
                 } else if (configuratorObject instanceof Attribute<?, ?> attribute) {
-                    if (attribute.multiple) {
-                        generateMultipleAttributeSchema(
-                                schemaConfiguratorObjects, attribute, context, null, definitions);
-                    } else if (attribute.type.isEnum()) {
-                        generateEnumAttributeSchema(schemaConfiguratorObjects, attribute, null);
-                    } else {
-                        schemaConfiguratorObjects.put(
-                                attribute.getName(),
-                                generateNonEnumAttributeObject(attribute, null, context, definitions));
-                    }
+                    named.put(attribute.getName(), attribute);
+                }
+            }
+            Set<Object> written = Collections.newSetFromMap(new IdentityHashMap<>());
+            written.addAll(named.values());
+            for (Object configuratorObject : elements) {
+                if (!written.contains(configuratorObject)) {
+                    // not written, but still refers to definitions
+                    writeElement(new JSONWriter(new StringBuilder()), configuratorObject, context, definitions);
                 }
             }
+            for (Map.Entry<String, Object> entry : named.entrySet()) {
+                writer.key(entry.getKey());
+                writeElement(writer, entry.getValue(), context, definitions);
+            }
+            writer.endObject().endObject();
+        }
+        writer.endObject();
 
-            rootConfiguratorProperties.put(
-                    rootElementConfigurator.getName(),
-                    new JSONObject()
-                            .put("type", "object")
-                            .put("additionalProperties", false)
-                            .put("properties", schemaConfiguratorObjects)
-                            .put(
-                                    "title",
-                                    "Configuration base for the " + rootElementConfigurator.getName() + " classifier"));
+        writer.key("definitions").object();
+        Class<?> next;
+        while ((next = definitions.pending.poll()) != null) {
+            writer.key(next.getName());
+            writeDefinition(writer, next, definitions.configurators.get(next), context, definitions);
         }
-        schemaObject.put("properties", rootConfiguratorProperties);
-        schemaObject.put("definitions", definitions);
-        return schemaObject;
+        writer.endObject();
+
+        writer.endObject();
     }
 
-    public static String writeJSONSchema() {
-        return generateSchema().toString(4);
+    private static void writeElement(
+            JSONWriter writer, Object element, ConfigurationContext context, Definitions definitions) {
+        if (element instanceof BaseConfigurator<?> baseConfigurator) {
+            writeBaseConfiguratorSchema(writer, baseConfigurator, context, definitions);
+        } else if (element instanceof HeteroDescribableConfigurator<?> hetero) {
+            writeHeteroDescribableConfigObject(writer, hetero, definitions);
+        } else if (element instanceof Attribute<?, ?> attribute) {
+            writeAttributeSchema(writer, attribute, context, null, definitions);
+        }
     }
 
-    private static JSONObject generateBaseConfiguratorSchema(
-            BaseConfigurator<?> baseConfigurator, ConfigurationContext context, JSONObject definitions) {
-        JSONObject schema = new JSONObject().put("additionalProperties", false).put("type", "object");
+    /**
+     * Tracks the definitions referenced while writing the schema.
+     */
+    private static final class Definitions {
+        private final Set<Class<?>> visited = new HashSet<>();
+        private final Deque<Class<?>> pending = new ArrayDeque<>();
+
+        /**
+         * Definitions generated for {@link BaseConfigurator} targets, keyed by class name, as a target may be written
+         * both as a root element property and as a definition. Only kept for one generation, as a definition depends
+         * on the target class hierarchy, its configurator and its attribute types, which may come from any plugin.
+         */
+        private final Map<String, CachedDefinition> generated = new HashMap<>();
+
+        /**
+         * Classes referenced by the definition being rendered, so they can be restored when it is reused.
+         */
+        private final Deque<Set<Class<?>>> references = new ArrayDeque<>();
+
+        /**
+         * Configurators listed under a root element, which define the schema of their target.
+         */
+        private final Map<Class<?>, Configurator<?>> configurators = new HashMap<>();
+
+        void define(@CheckForNull Class<?> clazz, Configurator<?> configurator) {
+            if (clazz != null) {
+                configurators.put(clazz, configurator);
+                require(clazz);
+            }
+        }
 
-        List<? extends Attribute<?, ?>> attributes = baseConfigurator.getAttributes();
-        if (attributes.isEmpty()) {
-            schema.put("properties", new JSONObject());
-        } else {
-            JSONObject attributeSchema = new JSONObject();
-            for (Attribute<?, ?> attribute : attributes) {
-                if (attribute.multiple) {
-                    generateMultipleAttributeSchema(attributeSchema, attribute, context, baseConfigurator, definitions);
-                } else if (attribute.type.isEnum()) {
-                    generateEnumAttributeSchema(attributeSchema, attribute, baseConfigurator);
-                } else {
-                    attributeSchema.put(
-                            attribute.getName(),
-                            generateNonEnumAttributeObject(attribute, baseConfigurator, context, definitions));
-                }
+        void require(Class<?> clazz) {
+            if (!references.isEmpty()) {
+                references.peek().add(clazz);
+            }
+            if (visited.add(clazz)) {
+                pending.add(clazz);
             }
-            schema.put("properties", attributeSchema);
         }
-        return schema;
     }
 
-    private static JSONObject generateHeteroDescribableConfigObject(
-            HeteroDescribableConfigurator<?> heteroDescribableConfiguratorObject,
+    private static void writeDefinition(
+            JSONWriter writer,
+            Class<?> clazz,
+            @CheckForNull Configurator<?> configurator,
             ConfigurationContext context,
-            JSONObject definitions) {
-
-        Map<String, ? extends Class<?>> implementorsMap = heteroDescribableConfiguratorObject.getImplementors();
-        JSONObject finalHeteroConfiguratorObject = new JSONObject();
-        if (!implementorsMap.isEmpty()) {
-            JSONArray oneOfJsonArray = new JSONArray();
-            JSONObject propertiesObject = new JSONObject();
-
-            for (Map.Entry<String, ? extends Class<?>> entry : implementorsMap.entrySet()) {
-                String className = entry.getValue().getName();
+            Definitions definitions) {
+        Configurator<?> lookup = configurator != null ? configurator : context.lookup(clazz);
+        if (lookup instanceof BaseConfigurator<?> baseConfigurator) {
+            writeBaseConfiguratorSchema(writer, baseConfigurator, context, definitions);
+        } else if (lookup instanceof HeteroDescribableConfigurator<?> hetero) {
+            writeHeteroDescribableConfigObject(writer, hetero, definitions);
+        } else {
+            writer.object()
+                    .key("additionalProperties")
+                    .value(false)
+                    .key("type")
+                    .value("object")
+                    .key("properties")
+                    .object()
+                    .endObject()
+                    .endObject();
+        }
+    }
 
-                propertiesObject.put(entry.getKey(), new JSONObject().put("$ref", "#/definitions/" + className));
-                oneOfJsonArray.put(new JSONObject().put("required", new JSONArray().put(entry.getKey())));
-                ensureDefinitionExists(entry.getValue(), context, definitions);
+    /**
+     * Reuse the definition rendered for the configurator target if any, and restore the definitions it references.
+     */
+    private static void writeBaseConfiguratorSchema(
+            JSONWriter writer,
+            BaseConfigurator<?> baseConfigurator,
+            ConfigurationContext context,
+            Definitions definitions) {
+        final Class<?> target = baseConfigurator.getTarget();
+        if (target == null) {
+            generateBaseConfiguratorSchema(writer, baseConfigurator, context, definitions);
+            return;
+        }
+        final Map<String, CachedDefinition> cachedDefinitions = definitions.generated;
+        CachedDefinition cached = cachedDefinitions.get(target.getName());
+        if (cached != null && cached.target() == target) {
+            cached.references().forEach(definitions::require);
+        } else {
+            StringBuilder schema = new StringBuilder();
+            definitions.references.push(new LinkedHashSet<>());
+            final Set<Class<?>> references;
+            try {
+                generateBaseConfiguratorSchema(new JSONWriter(schema), baseConfigurator, context, definitions);
+            } finally {
+                references = definitions.references.pop();
             }
-
-            finalHeteroConfiguratorObject
-                    .put("type", "object")
-                    .put("additionalProperties", false)
-                    .put("properties", propertiesObject)
-                    .put("minProperties", 1)
-                    .put("maxProperties", 1)
-                    .put("oneOf", oneOfJsonArray);
+            cached = new CachedDefinition(target, schema.toString(), references);
+            cachedDefinitions.put(target.getName(), cached);
         }
-        return finalHeteroConfiguratorObject;
+        writer.value(cached);
     }
 
-    private static void ensureDefinitionExists(Class<?> clazz, ConfigurationContext context, JSONObject definitions) {
-        String className = clazz.getName();
-        if (definitions.has(className)) {
-            return;
+    private static void generateBaseConfiguratorSchema(
+            JSONWriter writer,
+            BaseConfigurator<?> baseConfigurator,
+            ConfigurationContext context,
+            Definitions definitions) {
+        writer.object()
+                .key("additionalProperties")
+                .value(false)
+                .key("type")
+                .value("object")
+                .key("properties")
+                .object();
+        for (Attribute<?, ?> attribute : baseConfigurator.getAttributes()) {
+            writer.key(attribute.getName());
+            writeAttributeSchema(writer, attribute, context, baseConfigurator, definitions);
         }
+        writer.endObject().endObject();
+    }
 
-        definitions.put(className, new JSONObject().put("type", "object"));
-
-        Configurator<?> lookup = context.lookup(clazz);
-        if (lookup instanceof BaseConfigurator) {
-            definitions.put(
-                    className, generateBaseConfiguratorSchema((BaseConfigurator<?>) lookup, context, definitions));
-        } else if (lookup instanceof HeteroDescribableConfigurator) {
-            definitions.put(
-                    className,
-                    generateHeteroDescribableConfigObject(
-                            (HeteroDescribableConfigurator<?>) lookup, context, definitions));
-        } else {
-            definitions.put(
-                    className,
-                    new JSONObject()
-                            .put("additionalProperties", false)
-                            .put("type", "object")
-                            .put("properties", new JSONObject()));
+    private static void writeHeteroDescribableConfigObject(
+            JSONWriter writer,
+            HeteroDescribableConfigurator<?> heteroDescribableConfiguratorObject,
+            Definitions definitions) {
+
+        Map<String, ? extends Class<?>> implementorsMap = heteroDescribableConfiguratorObject.getImplementors();
+        writer.object();
+        if (!implementorsMap.isEmpty()) {
+            writer.key("type")
+                    .value("object")
+                    .key("additionalProperties")
+                    .value(false)
+                    .key("minProperties")
+                    .value(1)
+                    .key("maxProperties")
+                    .value(1);
+
+            writer.key("properties").object();
+            for (Map.Entry<String, ? extends Class<?>> entry : implementorsMap.entrySet()) {
+                writer.key(entry.getKey())
+                        .object()
+                        .key("$ref")
+                        .value("#/definitions/" + entry.getValue().getName())
+                        .endObject();
+                definitions.require(entry.getValue());
+            }
+            writer.endObject();
+
+            writer.key("oneOf").array();
+            for (String symbol : implementorsMap.keySet()) {
+                writer.object().key("required").array().value(symbol).endArray().endObject();
+            }
+            writer.endArray();
         }
+        writer.endObject();
     }
 
     /**
@@ -198,43 +431,55 @@ public class SchemaGeneration {
                         listElements(elements, ((Configurator) configurator).describe(), context, false));
     }
 
-    private static JSONObject generateNonEnumAttributeObject(
+    private static void writeAttributeSchema(
+            JSONWriter writer,
             Attribute<?, ?> attribute,
-            BaseConfigurator<?> baseConfigurator,
             ConfigurationContext context,
-            JSONObject definitions) {
-        JSONObject attributeType = new JSONObject();
+            BaseConfigurator<?> baseConfigurator,
+            Definitions definitions) {
+        if (attribute.multiple) {
+            writeMultipleAttributeSchema(writer, attribute, context, baseConfigurator, definitions);
+        } else if (attribute.type.isEnum()) {
+            writeEnumAttributeSchema(writer, attribute, baseConfigurator);
+        } else {
+            writeNonEnumAttributeObject(writer, attribute, baseConfigurator, definitions);
+        }
+    }
+
+    private static void writeNonEnumAttributeObject(
+            JSONWriter writer, Attribute<?, ?> attribute, BaseConfigurator<?> baseConfigurator, Definitions definitions) {
         Optional<String> description = getDescription(attribute, baseConfigurator);
+        writer.object();
         switch (attribute.type.getName()) {
             case "java.lang.String":
             case "hudson.util.Secret":
-                attributeType.put("type", "string");
-                description.ifPresent(desc -> attributeType.put("description", desc));
+                writer.key("type").value("string");
                 break;
 
             case "int":
             case "java.lang.Integer":
             case "long":
             case "java.lang.Long":
-                attributeType.put("type", "integer");
-                description.ifPresent(desc -> attributeType.put("description", desc));
+                writer.key("type").value("integer");
                 break;
 
             case "boolean":
             case "java.lang.Boolean":
-                attributeType.put("type", "boolean");
-                description.ifPresent(desc -> attributeType.put("description", desc));
+                writer.key("type").value("boolean");
                 break;
 
             default:
-                attributeType.put("type", "object");
-                description.ifPresent(desc -> attributeType.put("description", desc));
-                attributeType.put("additionalProperties", false);
-                attributeType.put("$ref", "#/definitions/" + attribute.type.getName());
-                ensureDefinitionExists(attribute.getType(), context, definitions);
+                writer.key("type")
+                        .value("object")
+                        .key("additionalProperties")
+                        .value(false)
+                        .key("$ref")
+                        .value("#/definitions/" + attribute.type.getName());
+                definitions.require(attribute.getType());
                 break;
         }
-        return attributeType;
+        description.ifPresent(desc -> writer.key("description").value(desc));
+        writer.endObject();
     }
 
     private static Optional<String> getDescription(Attribute attribute, BaseConfigurator baseConfigurator) {
@@ -245,60 +490,55 @@ public class SchemaGeneration {
         return Optional.ofNullable(description);
     }
 
-    private static void generateMultipleAttributeSchema(
-            JSONObject attributeSchema,
+    private static void writeMultipleAttributeSchema(
+            JSONWriter writer,
             Attribute attribute,
             ConfigurationContext context,
             BaseConfigurator<?> baseConfigurator,
-            JSONObject definitions) {
+            Definitions definitions) {
         Optional<String> description = getDescription(attribute, baseConfigurator);
 
-        JSONObject itemsSchema = new JSONObject();
-
+        writer.object().key("type").value("array").key("items").object();
         if (attribute.type.getName().equals("java.lang.String")) {
-            itemsSchema.put("type", "string");
+            writer.key("type").value("string");
         } else if (attribute.type.isEnum()) {
-            ArrayList<String> values = new ArrayList<>();
-            for (Object obj : attribute.type.getEnumConstants()) {
-                values.add(obj.toString());
-            }
-            itemsSchema.put("type", "string").put("enum", new JSONArray(values));
+            writer.key("type").value("string");
+            writeEnumValues(writer, attribute.type);
         } else {
-            JSONObject properties = new JSONObject();
+            writer.key("type").value("object").key("additionalProperties").value(false);
+            writer.key("properties").object();
             Configurator<Object> lookup = context.lookup(attribute.getType());
             if (lookup != null) {
-                lookup.getAttributes()
-                        .forEach(attr -> properties.put(
-                                attr.getName(),
-                                generateNonEnumAttributeObject(attr, baseConfigurator, context, definitions)));
+                for (Attribute<Object, ?> attr : lookup.getAttributes()) {
+                    writer.key(attr.getName());
+                    writeNonEnumAttributeObject(writer, attr, baseConfigurator, definitions);
+                }
             }
-
-            itemsSchema.put("type", "object").put("properties", properties).put("additionalProperties", false);
+            writer.endObject();
         }
-
-        JSONObject attributeObject = new JSONObject().put("type", "array").put("items", itemsSchema);
-
-        description.ifPresent(desc -> attributeObject.put("description", desc));
-        attributeSchema.put(attribute.getName(), attributeObject);
+        writer.endObject();
+        description.ifPresent(desc -> writer.key("description").value(desc));
+        writer.endObject();
     }
 
-    private static void generateEnumAttributeSchema(
-            JSONObject attributeSchemaTemplate, Attribute attribute, BaseConfigurator baseConfigurator) {
+    private static void writeEnumAttributeSchema(
+            JSONWriter writer, Attribute attribute, BaseConfigurator baseConfigurator) {
         Optional<String> description = getDescription(attribute, baseConfigurator);
 
-        if (attribute.type.getEnumConstants().length == 0) {
-            JSONObject jsonObject = new JSONObject().put("type", "string");
-            description.ifPresent(desc -> jsonObject.put("description", desc));
-            attributeSchemaTemplate.put(attribute.getName(), jsonObject);
-        } else {
-            ArrayList<String> attributeList = new ArrayList<>();
-            for (Object obj : attribute.type.getEnumConstants()) {
-                attributeList.add(obj.toString());
-            }
-            JSONObject jsonObject = new JSONObject().put("type", "string").put("enum", new JSONArray(attributeList));
-            description.ifPresent(desc -> jsonObject.put("description", desc));
-            attributeSchemaTemplate.put(attribute.getName(), jsonObject);
+        writer.object().key("type").value("string");
+        if (attribute.type.getEnumConstants().length != 0) {
+            writeEnumValues(writer, attribute.type);
+        }
+        description.ifPresent(desc -> writer.key("description").value(desc));
+        writer.endObject();
+    }
+
+    private static void writeEnumValues(JSONWriter writer, Class<?> type) {
+        writer.key("enum").array();
+        for (Object obj : type.getEnumConstants()) {
+            writer.value(obj.toString());
         }
+        writer.endArray();
     }
 
     public static String retrieveDocStringFromAttribute(Class baseConfigClass, String attributeName) {
@@ -4,6 +4,8 @@ import static io.vavr.API.unchecked;
 
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import io.jenkins.plugins.casc.metrics.ConfigurationMetrics;
+import io.jenkins.plugins.casc.metrics.SecretRevealEvent;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -11,6 +13,7 @@ import java.nio.file.InvalidPathException;
 import java.nio.file.Paths;
 import java.util.Base64;
 import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
@@ -154,13 +157,31 @@ public class SecretSourceResolver {
         @Override
         public String lookup(String key) {
             return context.getSecretSources().stream()
-                    .map(source -> unchecked(() -> source.reveal(key)).apply())
+                    .map(source -> reveal(source, key))
                     .flatMap(o -> o.map(Stream::of).orElseGet(Stream::empty))
                     .findFirst()
                     .orElse(null);
         }
     }
 
+    private static Optional<String> reveal(SecretSource source, String key) {
+        final SecretRevealEvent event = new SecretRevealEvent();
+        event.begin();
+        final long start = System.nanoTime();
+        Optional<String> value = Optional.empty();
+        try {
+            value = unchecked(() -> source.reveal(key)).apply();
+            return value;
+        } finally {
+            ConfigurationMetrics.get().secret(source.getClass(), System.nanoTime() - start);
+            if (event.shouldCommit()) {
+                event.secretSource = source.getClass().getName();
+                event.found = value.isPresent();
+                event.commit();
+            }
+        }
+    }
+
     static class SystemPropertyLookup implements StringLookup {
 
         static final SystemPropertyLookup INSTANCE = new SystemPropertyLookup();
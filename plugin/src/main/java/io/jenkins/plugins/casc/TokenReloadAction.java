@@ -5,15 +5,15 @@ import static java.util.logging.Level.SEVERE;
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 import hudson.Extension;
 import hudson.model.UnprotectedRootAction;
-import hudson.security.ACL;
-import hudson.security.ACLContext;
 import hudson.util.HttpResponses;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.util.logging.Logger;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.kohsuke.stapler.StaplerRequest2;
 import org.kohsuke.stapler.StaplerResponse2;
 import org.kohsuke.stapler.interceptor.RequirePOST;
@@ -26,6 +26,9 @@ public class TokenReloadAction implements UnprotectedRootAction {
     public static final String RELOAD_TOKEN_PROPERTY = "casc.reload.token";
     public static final String RELOAD_TOKEN_QUERY_PARAMETER = "casc-reload-token";
     public static final String CASC_RELOAD_TOKEN_ENV = "CASC_RELOAD_TOKEN";
+    public static final String ASYNC_QUERY_PARAMETER = "async";
+    public static final String RELOAD_DEBOUNCE_PROPERTY = "casc.reload.token.debounce";
+    public static final String CASC_RELOAD_DEBOUNCE_ENV = "CASC_RELOAD_DEBOUNCE";
 
     @CheckForNull
     @Override
@@ -60,8 +63,19 @@ public class TokenReloadAction implements UnprotectedRootAction {
                             token.getBytes(StandardCharsets.UTF_8), requestToken.getBytes(StandardCharsets.UTF_8))) {
                 LOGGER.info("Configuration reload triggered via token");
 
-                try (ACLContext ignored = ACL.as2(ACL.SYSTEM2)) {
-                    ConfigurationAsCode.get().configure();
+                final ReloadJob job = ConfigurationReloader.get().submit("token", getDebounce());
+                if (Boolean.parseBoolean(request.getParameter(ASYNC_QUERY_PARAMETER))) {
+                    response.setStatus(HttpServletResponse.SC_ACCEPTED);
+                    response.setContentType("application/json; charset=utf-8");
+                    job.toJSON().write(response.getWriter());
+                    return;
+                }
+
+                try {
+                    job.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
                 } catch (ConfiguratorException e) {
                     LOGGER.log(SEVERE, "Failed to reload Jenkins Configuration as Code via token", e);
 
@@ -90,6 +104,18 @@ public class TokenReloadAction implements UnprotectedRootAction {
         return System.getProperty(RELOAD_TOKEN_PROPERTY);
     }
 
+    /**
+     * @return quiet period in milliseconds a token triggered reload waits for before starting, so a burst of
+     * requests results in a single reload. Disabled by default.
+     */
+    static long getDebounce() {
+        final String envDebounce = System.getenv(CASC_RELOAD_DEBOUNCE_ENV);
+        if (envDebounce != null && !envDebounce.isEmpty()) {
+            return NumberUtils.toLong(envDebounce, 0);
+        }
+        return NumberUtils.toLong(System.getProperty(RELOAD_DEBOUNCE_PROPERTY), 0);
+    }
+
     public static boolean tokenReloadEnabled() {
         String token = getReloadToken();
         return token != null && !token.isEmpty();
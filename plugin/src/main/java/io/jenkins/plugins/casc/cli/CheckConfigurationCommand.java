@@ -3,12 +3,14 @@ package io.jenkins.plugins.casc.cli;
 import hudson.Extension;
 import hudson.cli.CLICommand;
 import io.jenkins.plugins.casc.ConfigurationAsCode;
+import io.jenkins.plugins.casc.ConfigurationPlan;
 import io.jenkins.plugins.casc.model.Source;
 import io.jenkins.plugins.casc.yaml.YamlSource;
 import java.util.Map;
 import jenkins.model.Jenkins;
 import org.kohsuke.accmod.Restricted;
 import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.args4j.Option;
 
 /**
  * @author <a href="mailto:nicolas.deloof@gmail.com">Nicolas De Loof</a>
@@ -17,6 +19,9 @@ import org.kohsuke.accmod.restrictions.NoExternalUse;
 @Restricted(NoExternalUse.class)
 public class CheckConfigurationCommand extends CLICommand {
 
+    @Option(name = "--plan", usage = "List the changes applying the configuration would make")
+    public boolean plan;
+
     @Override
     public String getShortDescription() {
         return "Check YAML configuration to instance";
@@ -29,10 +34,39 @@ public class CheckConfigurationCommand extends CLICommand {
             return -1;
         }
 
+        if (plan) {
+            for (ConfigurationPlan.Change change : ConfigurationAsCode.get()
+                    .planWith(YamlSource.of(stdin))
+                    .getChanges()) {
+                print(change);
+            }
+            return 0;
+        }
+
         final Map<Source, String> issues = ConfigurationAsCode.get().checkWith(YamlSource.of(stdin));
         for (Map.Entry<Source, String> entry : issues.entrySet()) {
             stderr.printf("warning: line %d %s", entry.getKey().line(), entry.getValue());
         }
         return 0;
     }
+
+    private void print(ConfigurationPlan.Change change) {
+        final boolean added = change.getAction() == ConfigurationPlan.Action.ADD;
+        stdout.print(added ? "+ " : "~ ");
+        stdout.print(change.getPath());
+        if (change.getSource() != null) {
+            stdout.printf(" (line %d)", change.getSource().line());
+        }
+        stdout.println();
+        if (!added) {
+            printValue("- ", change.getCurrent());
+        }
+        printValue("+ ", change.getProposed());
+    }
+
+    private void printValue(String prefix, String value) {
+        for (String line : value.split("\n", -1)) {
+            stdout.println("    " + prefix + line);
+        }
+    }
 }
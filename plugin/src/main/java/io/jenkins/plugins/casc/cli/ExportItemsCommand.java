@@ -0,0 +1,43 @@
+package io.jenkins.plugins.casc.cli;
+
+import hudson.Extension;
+import hudson.cli.CLICommand;
+import hudson.model.ItemGroup;
+import io.jenkins.plugins.casc.ConfigurationAsCode;
+import io.jenkins.plugins.casc.core.ItemExporter;
+import jenkins.model.Jenkins;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.args4j.Argument;
+
+/**
+ * Export all items of a folder as a single {@code items:} YAML document.
+ */
+@Extension
+@Restricted(NoExternalUse.class)
+public class ExportItemsCommand extends CLICommand {
+
+    @Argument(metaVar = "FOLDER", usage = "Full name of the folder to export. Exports all items if omitted.")
+    public String folder;
+
+    @Override
+    public String getShortDescription() {
+        return "Export items as YAML";
+    }
+
+    @Override
+    protected int run() throws Exception {
+
+        if (!Jenkins.get().hasPermission(Jenkins.SYSTEM_READ)) {
+            return -1;
+        }
+
+        final ItemGroup<?> root = ItemExporter.lookupItemGroup(folder);
+        if (root == null) {
+            throw new IllegalArgumentException("No such folder: " + folder);
+        }
+
+        ConfigurationAsCode.get().exportItems(root, stdout);
+        return 0;
+    }
+}
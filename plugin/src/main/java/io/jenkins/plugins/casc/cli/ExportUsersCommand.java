@@ -0,0 +1,41 @@
+package io.jenkins.plugins.casc.cli;
+
+import hudson.Extension;
+import hudson.cli.CLICommand;
+import hudson.security.HudsonPrivateSecurityRealm;
+import io.jenkins.plugins.casc.ConfigurationAsCode;
+import jenkins.model.Jenkins;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.args4j.Option;
+
+/**
+ * Export users of Jenkins' own user database as a single YAML document.
+ */
+@Extension
+@Restricted(NoExternalUse.class)
+public class ExportUsersCommand extends CLICommand {
+
+    @Option(name = "--ids-only", usage = "Only export user ids.")
+    public boolean idsOnly;
+
+    @Override
+    public String getShortDescription() {
+        return "Export users of Jenkins' own user database as YAML";
+    }
+
+    @Override
+    protected int run() throws Exception {
+
+        if (!Jenkins.get().hasPermission(Jenkins.SYSTEM_READ)) {
+            return -1;
+        }
+
+        if (!(Jenkins.get().getSecurityRealm() instanceof HudsonPrivateSecurityRealm realm)) {
+            throw new IllegalStateException("Jenkins' own user database is not used");
+        }
+
+        ConfigurationAsCode.get().exportUsers(realm, stdout, idsOnly);
+        return 0;
+    }
+}
@@ -2,10 +2,12 @@ package io.jenkins.plugins.casc.cli;
 
 import hudson.Extension;
 import hudson.cli.CLICommand;
-import io.jenkins.plugins.casc.ConfigurationAsCode;
+import io.jenkins.plugins.casc.ConfigurationReloader;
+import io.jenkins.plugins.casc.ReloadJob;
 import jenkins.model.Jenkins;
 import org.kohsuke.accmod.Restricted;
 import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.args4j.Option;
 
 /**
  * @author <a href="mailto:nicolas.deloof@gmail.com">Nicolas De Loof</a>
@@ -14,6 +16,9 @@ import org.kohsuke.accmod.restrictions.NoExternalUse;
 @Restricted(NoExternalUse.class)
 public class ReloadJCascConfigurationCommand extends CLICommand {
 
+    @Option(name = "--async", usage = "Don't wait for the reload to complete, print its id instead")
+    public boolean async;
+
     @Override
     public String getShortDescription() {
         return "Reload JCasC YAML configuration";
@@ -26,7 +31,12 @@ public class ReloadJCascConfigurationCommand extends CLICommand {
             return -1;
         }
 
-        ConfigurationAsCode.get().configure();
+        final ReloadJob job = ConfigurationReloader.get().submit("cli");
+        if (async) {
+            stdout.println(job.getId());
+            return 0;
+        }
+        job.await();
         return 0;
     }
 }
@@ -2,25 +2,38 @@ package io.jenkins.plugins.casc.core;
 
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.BulkChange;
 import hudson.Extension;
 import hudson.model.User;
 import hudson.model.UserProperty;
 import hudson.security.HudsonPrivateSecurityRealm;
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
 import io.jenkins.plugins.casc.Attribute;
 import io.jenkins.plugins.casc.ConfigurationContext;
 import io.jenkins.plugins.casc.impl.attributes.MultivaluedAttribute;
 import io.jenkins.plugins.casc.impl.configurators.DataBoundConfigurator;
 import io.jenkins.plugins.casc.model.CNode;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
+import jenkins.model.Jenkins;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.kohsuke.accmod.Restricted;
 import org.kohsuke.accmod.restrictions.NoExternalUse;
 import org.kohsuke.stapler.DataBoundConstructor;
 import org.kohsuke.stapler.DataBoundSetter;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 /**
  * @author <a href="mailto:nicolas.deloof@gmail.com">Nicolas De Loof</a>
@@ -31,6 +44,19 @@ public class HudsonPrivateSecurityRealmConfigurator extends DataBoundConfigurato
     // matches HudsonPrivateSecurityRealm.JBCRYPT_HEADER
     private static final String HASHED_PASSWORD_PREFIX = "#jbcrypt:";
 
+    /**
+     * Maximum number of user passwords hashed at the same time.
+     */
+    public static final String HASH_THREADS_PROPERTY = "casc.users.hash.threads";
+
+    /**
+     * {@code false} to leave the security realm out of exports, {@code ids} to only export user ids.
+     */
+    public static final String EXPORT_USERS_PROPERTY =
+            "io.jenkins.plugins.casc.core.HudsonPrivateSecurityRealmConfigurator.exportUsers";
+
+    public static final String EXPORT_USERS_IDS = "ids";
+
     public HudsonPrivateSecurityRealmConfigurator() {
         super(HudsonPrivateSecurityRealm.class);
     }
@@ -49,62 +75,149 @@ public class HudsonPrivateSecurityRealmConfigurator extends DataBoundConfigurato
     @CheckForNull
     @Override
     public CNode describe(HudsonPrivateSecurityRealm instance, ConfigurationContext context) throws Exception {
-        // allow disabling exporting users if an instance has too many
-        if (System.getProperty(
-                        "io.jenkins.plugins.casc.core.HudsonPrivateSecurityRealmConfigurator.exportUsers", "true")
-                .equals("true")) {
+        // allow disabling exporting users if an instance has too many, or only exporting their ids
+        final String exportUsers = System.getProperty(EXPORT_USERS_PROPERTY, "true");
+        if (exportUsers.equals("true") || exportUsers.equals(EXPORT_USERS_IDS)) {
             return super.describe(instance, context);
         }
         return null;
     }
 
     private static Collection<UserWithPassword> getter(HudsonPrivateSecurityRealm target) {
+        final boolean idsOnly = EXPORT_USERS_IDS.equals(System.getProperty(EXPORT_USERS_PROPERTY));
         return target.getAllUsers().stream()
-                .map(u -> {
-                    UserWithPassword user = new UserWithPassword(u.getId(), null);
-                    user.setName(u.getFullName());
-                    user.setDescription(u.getDescription());
-                    List<UserProperty> properties = u.getAllProperties().stream()
-                            .filter(
-                                    userProperty -> !userProperty
-                                            .getClass()
-                                            .getName()
-                                            .equals(
-                                                    "com.cloudbees.plugins.credentials.UserCredentialsProvider$UserCredentialsProperty"))
-                            .collect(Collectors.toList());
-                    user.setProperties(properties);
-
-                    return user;
-                })
+                .map(u -> toUserWithPassword(u, idsOnly))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Describe a user the way it is configured, without its password.
+     * @param idsOnly only keep the user id, which is much cheaper to export than user properties
+     */
+    static UserWithPassword toUserWithPassword(User u, boolean idsOnly) {
+        UserWithPassword user = new UserWithPassword(u.getId(), null);
+        if (idsOnly) {
+            return user;
+        }
+        user.setName(u.getFullName());
+        user.setDescription(u.getDescription());
+        List<UserProperty> properties = u.getAllProperties().stream()
+                .filter(userProperty -> !userProperty
+                        .getClass()
+                        .getName()
+                        .equals("com.cloudbees.plugins.credentials.UserCredentialsProvider$UserCredentialsProperty"))
                 .collect(Collectors.toList());
+        user.setProperties(properties);
+        return user;
     }
 
     private static void setter(HudsonPrivateSecurityRealm target, Collection<UserWithPassword> value)
             throws IOException {
-        for (UserWithPassword user : value) {
-            User updatedUser = createAccount(target, user);
-            updatedUser.setFullName(user.name);
-            updatedUser.setDescription(user.description);
-            if (user.getProperties() != null) {
-                for (UserProperty property : user.getProperties()) {
-                    updatedUser.addProperty(property);
+        final List<UserWithPassword> users = new ArrayList<>(value);
+        final List<String> hashes = hashPasswords(users);
+        for (int i = 0; i < users.size(); i++) {
+            final UserWithPassword user = users.get(i);
+            final String hash = hashes.get(i);
+            final User existing = User.getById(user.id, false);
+            if (existing != null && hash == null && isUpToDate(existing, user)) {
+                continue;
+            }
+            // save each user once, rather than once per password, name, description and property
+            final User updatedUser = existing != null ? existing : User.getById(user.id, true);
+            try (BulkChange bc = new BulkChange(updatedUser)) {
+                if (hash != null) {
+                    target.createAccountWithHashedPassword(user.id, hash);
+                }
+                updatedUser.setFullName(user.name);
+                updatedUser.setDescription(user.description);
+                if (user.getProperties() != null) {
+                    for (UserProperty property : user.getProperties()) {
+                        updatedUser.addProperty(property);
+                    }
                 }
+                bc.commit();
             }
         }
     }
 
-    private static User createAccount(HudsonPrivateSecurityRealm target, UserWithPassword user) throws IOException {
-        User updatedUser;
-        if (StringUtils.isNotBlank(user.password)) {
-            if (StringUtils.startsWith(user.password, HASHED_PASSWORD_PREFIX)) {
-                updatedUser = target.createAccountWithHashedPassword(user.id, user.password);
-            } else {
-                updatedUser = target.createAccount(user.id, user.password);
+    /**
+     * Hash plain text passwords, on several threads as hashing is deliberately slow.
+     * @return for each user, the password hash to set, or {@code null} if the current password doesn't change
+     */
+    private static List<String> hashPasswords(List<UserWithPassword> users) throws IOException {
+        final int threads = Math.min(getHashThreads(), users.size());
+        if (threads <= 1) {
+            final List<String> hashes = new ArrayList<>();
+            for (UserWithPassword user : users) {
+                hashes.add(hashPassword(user));
             }
-        } else {
-            updatedUser = User.getById(user.id, true);
+            return hashes;
         }
-        return updatedUser;
+
+        final ExecutorService pool = Executors.newFixedThreadPool(
+                threads,
+                new NamingThreadFactory(new DaemonThreadFactory(), "HudsonPrivateSecurityRealmConfigurator"));
+        try {
+            final List<Callable<String>> tasks = new ArrayList<>();
+            for (UserWithPassword user : users) {
+                tasks.add(() -> hashPassword(user));
+            }
+            final List<String> hashes = new ArrayList<>();
+            for (Future<String> hash : pool.invokeAll(tasks)) {
+                hashes.add(hash.get());
+            }
+            return hashes;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while hashing user passwords", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to hash user password", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @CheckForNull
+    private static String hashPassword(UserWithPassword user) {
+        if (StringUtils.isBlank(user.password)) {
+            return null;
+        }
+        final User existing = User.getById(user.id, false);
+        final HudsonPrivateSecurityRealm.Details details =
+                existing != null ? existing.getProperty(HudsonPrivateSecurityRealm.Details.class) : null;
+        if (StringUtils.startsWith(user.password, HASHED_PASSWORD_PREFIX)) {
+            return details != null && user.password.equals(details.getPassword()) ? null : user.password;
+        }
+        if (details != null && details.isPasswordCorrect(user.password)) {
+            return null;
+        }
+        final PasswordEncoder encoder = HudsonPrivateSecurityRealm.PASSWORD_ENCODER;
+        return encoder.encode(user.password);
+    }
+
+    private static boolean isUpToDate(User existing, UserWithPassword user) {
+        final String fullName = StringUtils.isBlank(user.name) ? existing.getId() : user.name;
+        if (!fullName.equals(existing.getFullName())
+                || !Objects.equals(existing.getDescription(), user.description)) {
+            return false;
+        }
+        if (user.getProperties() == null) {
+            return true;
+        }
+        for (UserProperty property : user.getProperties()) {
+            final UserProperty current = existing.getProperty(property.getClass());
+            if (current == null
+                    || !Jenkins.XSTREAM2.toXML(current).equals(Jenkins.XSTREAM2.toXML(property))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int getHashThreads() {
+        int threads = NumberUtils.toInt(
+                System.getProperty(HASH_THREADS_PROPERTY), Math.min(4, Runtime.getRuntime().availableProcessors()));
+        return Math.max(1, threads);
     }
 
     public static class UserWithPassword {
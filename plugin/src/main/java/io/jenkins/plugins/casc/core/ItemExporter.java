@@ -1,33 +1,58 @@
 package io.jenkins.plugins.casc.core;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import hudson.ExtensionList;
+import hudson.Util;
+import hudson.model.Item;
+import hudson.model.ItemGroup;
+import hudson.model.Items;
 import hudson.model.TopLevelItem;
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+import io.jenkins.plugins.casc.ConfigurationAsCode;
 import io.jenkins.plugins.casc.ConfigurationContext;
 import io.jenkins.plugins.casc.Configurator;
 import io.jenkins.plugins.casc.ItemConfigurator;
 import io.jenkins.plugins.casc.model.CNode;
 import io.jenkins.plugins.casc.model.Mapping;
 import io.jenkins.plugins.casc.model.Sequence;
+import io.jenkins.plugins.casc.yaml.YamlStreamWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jenkins.model.Jenkins;
+import jenkins.security.ImpersonatingExecutorService;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.security.core.Authentication;
+import org.yaml.snakeyaml.nodes.Node;
 
 public class ItemExporter {
 
+    private static final Logger LOGGER = Logger.getLogger(ItemExporter.class.getName());
+
+    public static final String EXPORT_THREADS_PROPERTY = "casc.export.items.threads";
+
     public CNode export(TopLevelItem item, ConfigurationContext context) throws Exception {
         ItemConfigurator<?> configurator = findConfigurator(item.getClass());
         if (configurator == null) {
             return null;
         }
 
-        @SuppressWarnings("unchecked")
-        Configurator<Object> baseConfigurator = (Configurator<Object>) configurator;
-        CNode itemNode = baseConfigurator.describe(item, context);
-
-        if (itemNode == null) {
+        Mapping typeMapping = describe(item, configurator, context);
+        if (typeMapping == null) {
             return null;
         }
 
-        Mapping typeMapping = new Mapping();
-        typeMapping.put(configurator.getName(), itemNode);
-
         Sequence itemsSeq = new Sequence();
         itemsSeq.add(typeMapping);
 
@@ -37,7 +62,121 @@ public class ItemExporter {
         return root;
     }
 
-    private ItemConfigurator<?> findConfigurator(Class<?> clazz) {
+    /**
+     * Streams all items below {@code root} the current user can export as a single {@code items:} document.
+     * Items are described on a bounded pool sharing the same {@link ConfigurationContext}, and written in
+     * iteration order as soon as they are ready, so only a handful of item trees are held in memory at once.
+     *
+     * @param root folder to walk, recursively
+     * @param context context shared by all items
+     * @param out destination, flushed but not closed
+     * @return number of exported items
+     */
+    public int export(ItemGroup<?> root, ConfigurationContext context, Writer out)
+            throws IOException, InterruptedException {
+        final ConfigurationAsCode casc = ConfigurationAsCode.get();
+        final Authentication auth = Jenkins.getAuthentication2();
+        final int threads = getExportThreads();
+        final Map<Class<?>, Optional<ItemConfigurator<?>>> configurators = new HashMap<>();
+        final Deque<Future<Node>> pending = new ArrayDeque<>();
+        final ExecutorService pool = new ImpersonatingExecutorService(
+                Executors.newFixedThreadPool(
+                        threads, new NamingThreadFactory(new DaemonThreadFactory(), "ItemExporter")),
+                auth);
+
+        int exported = 0;
+        try (YamlStreamWriter writer = new YamlStreamWriter(out)) {
+            writer.startMapping().key("items").startSequence();
+            for (TopLevelItem item : Items.allItems2(auth, root, TopLevelItem.class)) {
+                if (!item.hasPermission(Item.EXTENDED_READ)) {
+                    continue;
+                }
+                Optional<ItemConfigurator<?>> configurator = configurators.computeIfAbsent(
+                        item.getClass(), type -> Optional.ofNullable(findConfigurator(type)));
+                if (configurator.isEmpty()) {
+                    continue;
+                }
+                pending.add(pool.submit(() -> toYaml(casc, item, configurator.get(), context)));
+                if (pending.size() >= threads * 2) {
+                    exported += write(writer, pending.poll());
+                }
+            }
+            while (!pending.isEmpty()) {
+                exported += write(writer, pending.poll());
+            }
+            writer.endSequence().endMapping();
+        } finally {
+            pool.shutdownNow();
+        }
+        return exported;
+    }
+
+    /**
+     * Resolve the folder to export items from.
+     * @param fullName full name of a folder, or blank for the whole instance
+     * @return {@code null} if there is no such folder
+     */
+    @CheckForNull
+    public static ItemGroup<?> lookupItemGroup(@CheckForNull String fullName) {
+        final Jenkins jenkins = Jenkins.get();
+        final String name = Util.fixEmptyAndTrim(fullName);
+        if (name == null) {
+            return jenkins;
+        }
+        return jenkins.getItemByFullName(name) instanceof ItemGroup<?> group ? group : null;
+    }
+
+    private static int getExportThreads() {
+        int threads = NumberUtils.toInt(
+                System.getProperty(EXPORT_THREADS_PROPERTY),
+                Math.min(4, Runtime.getRuntime().availableProcessors()));
+        return Math.max(1, threads);
+    }
+
+    private static int write(YamlStreamWriter writer, Future<Node> next) throws IOException, InterruptedException {
+        final Node node;
+        try {
+            node = next.get();
+        } catch (ExecutionException e) {
+            LOGGER.log(Level.WARNING, "Failed to export item", e.getCause());
+            return 0;
+        }
+        if (node == null) {
+            return 0;
+        }
+        writer.write(node);
+        return 1;
+    }
+
+    @CheckForNull
+    private static Node toYaml(
+            ConfigurationAsCode casc, TopLevelItem item, ItemConfigurator<?> configurator, ConfigurationContext context) {
+        try {
+            return casc.toYaml(describe(item, configurator, context));
+        } catch (Exception e) {
+            // Don't fail the whole export, prefer logging this error
+            LOGGER.log(Level.WARNING, "Failed to export JCasC for item: " + item.getFullName(), e);
+            return null;
+        }
+    }
+
+    @CheckForNull
+    private static Mapping describe(TopLevelItem item, ItemConfigurator<?> configurator, ConfigurationContext context)
+            throws Exception {
+        @SuppressWarnings("unchecked")
+        Configurator<Object> baseConfigurator = (Configurator<Object>) configurator;
+        CNode itemNode = baseConfigurator.describe(item, context);
+
+        if (itemNode == null) {
+            return null;
+        }
+
+        Mapping typeMapping = new Mapping();
+        typeMapping.put(configurator.getName(), itemNode);
+        return typeMapping;
+    }
+
+    private static ItemConfigurator<?> findConfigurator(Class<?> clazz) {
         for (ItemConfigurator<?> configurator : ExtensionList.lookup(ItemConfigurator.class)) {
             if (configurator.getTarget().isAssignableFrom(clazz)) {
                 return configurator;
@@ -12,6 +12,7 @@ import io.jenkins.plugins.casc.ItemConfigurator;
 import io.jenkins.plugins.casc.RootElementConfigurator;
 import io.jenkins.plugins.casc.model.CNode;
 import io.jenkins.plugins.casc.model.Mapping;
+import io.jenkins.plugins.casc.yaml.StreamedSequence;
 import java.util.Collections;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -36,32 +37,53 @@ public class ItemsRootConfigurator implements RootElementConfigurator<Jenkins> {
         return Jenkins.get();
     }
 
+    @Override
+    public boolean isStreamable() {
+        return true;
+    }
+
     @Override
     @NonNull
     public Jenkins configure(CNode config, ConfigurationContext context) throws ConfiguratorException {
+        Jenkins jenkins = Jenkins.get();
+
+        if (config instanceof StreamedSequence) {
+            // items are read one at a time, so each of them is checked right before being configured
+            try (ACLContext ignored = ACL.as2(ACL.SYSTEM2)) {
+                StreamedSequence.forEach(config, itemNode -> {
+                    CNode interpolatedItem = CNodeInterpolator.interpolate(itemNode, context);
+                    configureItem(checkItem(interpolatedItem), context);
+                });
+            }
+            return jenkins;
+        }
+
         CNode interpolatedConfig = CNodeInterpolator.interpolate(config, context);
         doCheck(interpolatedConfig);
-        Jenkins jenkins = Jenkins.get();
 
         try (ACLContext ignored = ACL.as2(ACL.SYSTEM2)) {
             for (CNode itemNode : interpolatedConfig.asSequence()) {
-                Mapping itemMapping = itemNode.asMapping();
-                Entry<String, CNode> entry = itemMapping.entrySet().iterator().next();
-                String type = entry.getKey();
-                Mapping properties = entry.getValue().asMapping();
+                configureItem(itemNode, context);
+            }
+        }
+
+        return jenkins;
+    }
 
-                String name = properties.getScalarValue("name");
+    private void configureItem(CNode itemNode, ConfigurationContext context) throws ConfiguratorException {
+        Mapping itemMapping = itemNode.asMapping();
+        Entry<String, CNode> entry = itemMapping.entrySet().iterator().next();
+        String type = entry.getKey();
+        Mapping properties = entry.getValue().asMapping();
 
-                ItemConfigurator<?> configurator = findConfigurator(type);
-                if (configurator == null) {
-                    throw new ConfiguratorException("No ItemConfigurator found for type: " + type);
-                }
+        String name = properties.getScalarValue("name");
 
-                configurator.configure(name, properties, context);
-            }
+        ItemConfigurator<?> configurator = findConfigurator(type);
+        if (configurator == null) {
+            throw new ConfiguratorException("No ItemConfigurator found for type: " + type);
         }
 
-        return jenkins;
+        configurator.configure(name, properties, context);
     }
 
     private ItemConfigurator<?> findConfigurator(String type) {
@@ -75,40 +97,46 @@ public class ItemsRootConfigurator implements RootElementConfigurator<Jenkins> {
 
     @Override
     public Jenkins check(CNode config, ConfigurationContext context) throws ConfiguratorException {
-        CNode interpolatedConfig = CNodeInterpolator.interpolate(config, context);
-        return doCheck(interpolatedConfig);
+        StreamedSequence.forEach(config, itemNode -> checkItem(CNodeInterpolator.interpolate(itemNode, context)));
+        return Jenkins.get();
     }
 
     private Jenkins doCheck(CNode interpolatedConfig) throws ConfiguratorException {
         for (CNode itemNode : interpolatedConfig.asSequence()) {
-            Mapping itemMapping = itemNode.asMapping();
+            checkItem(itemNode);
+        }
 
-            if (itemMapping.size() != 1) {
-                throw new ConfiguratorException("Each item must have exactly one type key.");
-            }
+        return Jenkins.get();
+    }
 
-            Entry<String, CNode> entry = itemMapping.entrySet().iterator().next();
-            String type = entry.getKey();
-            Mapping properties = entry.getValue().asMapping();
+    private CNode checkItem(CNode itemNode) throws ConfiguratorException {
+        Mapping itemMapping = itemNode.asMapping();
 
-            CNode nameNode = properties.get("name");
-            if (nameNode == null) {
-                throw new ConfiguratorException("Item of type '" + type + "' is missing a 'name' attribute.");
-            }
+        if (itemMapping.size() != 1) {
+            throw new ConfiguratorException("Each item must have exactly one type key.");
+        }
 
-            String name = nameNode.asScalar().getValue();
+        Entry<String, CNode> entry = itemMapping.entrySet().iterator().next();
+        String type = entry.getKey();
+        Mapping properties = entry.getValue().asMapping();
 
-            if (name == null || name.trim().isEmpty()) {
-                throw new ConfiguratorException("Item of type '" + type + "' must have a non-empty 'name' attribute.");
-            }
+        CNode nameNode = properties.get("name");
+        if (nameNode == null) {
+            throw new ConfiguratorException("Item of type '" + type + "' is missing a 'name' attribute.");
+        }
 
-            ItemConfigurator<?> configurator = findConfigurator(type);
-            if (configurator == null) {
-                throw new ConfiguratorException("No ItemConfigurator found for type: " + type);
-            }
+        String name = nameNode.asScalar().getValue();
+
+        if (name == null || name.trim().isEmpty()) {
+            throw new ConfiguratorException("Item of type '" + type + "' must have a non-empty 'name' attribute.");
         }
 
-        return Jenkins.get();
+        ItemConfigurator<?> configurator = findConfigurator(type);
+        if (configurator == null) {
+            throw new ConfiguratorException("No ItemConfigurator found for type: " + type);
+        }
+
+        return itemNode;
     }
 
     @Override
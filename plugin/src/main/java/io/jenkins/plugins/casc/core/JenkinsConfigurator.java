@@ -21,9 +21,14 @@ import io.jenkins.plugins.casc.RootElementConfigurator;
 import io.jenkins.plugins.casc.impl.attributes.MultivaluedAttribute;
 import io.jenkins.plugins.casc.model.Mapping;
 import io.vavr.control.Try;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -40,6 +45,11 @@ import org.kohsuke.accmod.restrictions.NoExternalUse;
 @Restricted(NoExternalUse.class)
 public class JenkinsConfigurator extends BaseConfigurator<Jenkins> implements RootElementConfigurator<Jenkins> {
 
+    /**
+     * Set to {@code false} to replace all nodes on every configuration, rather than only nodes which changed.
+     */
+    public static final String RECONCILE_NODES_PROPERTY = "casc.nodes.reconcile";
+
     @Override
     public Class<Jenkins> getTarget() {
         return Jenkins.class;
@@ -71,8 +81,12 @@ public class JenkinsConfigurator extends BaseConfigurator<Jenkins> implements Ro
                         .filter(node -> !shouldKeepNode(node))
                         .collect(Collectors.toList()))
                 .setter((jenkins, configuredNodes) -> {
-                    List<String> configuredNodesNames =
-                            configuredNodes.stream().map(Node::getNodeName).collect(Collectors.toList());
+                    if (Boolean.parseBoolean(System.getProperty(RECONCILE_NODES_PROPERTY, "true"))) {
+                        reconcileNodes(jenkins, configuredNodes);
+                        return;
+                    }
+                    Set<String> configuredNodesNames =
+                            configuredNodes.stream().map(Node::getNodeName).collect(Collectors.toSet());
                     List<Node> nodesToKeep = jenkins.getNodes().stream()
                             .filter(node -> !configuredNodesNames.contains(node.getNodeName()))
                             .filter(this::shouldKeepNode)
@@ -137,6 +151,73 @@ public class JenkinsConfigurator extends BaseConfigurator<Jenkins> implements Ro
         return null;
     }
 
+    /**
+     * Only add, replace or remove nodes which configuration changed, so unchanged agents and their computers are left
+     * alone. When most nodes changed, e.g. on first configuration, they are all set at once instead.
+     */
+    private void reconcileNodes(Jenkins jenkins, List<Node> configuredNodes) throws IOException {
+        final Map<String, Node> existingNodes = new HashMap<>();
+        for (Node node : jenkins.getNodes()) {
+            existingNodes.put(node.getNodeName(), node);
+        }
+
+        final List<Node> nodes = new ArrayList<>();
+        final List<Node> changedNodes = new ArrayList<>();
+        final Set<String> configuredNodesNames = new HashSet<>();
+        for (Node node : configuredNodes) {
+            configuredNodesNames.add(node.getNodeName());
+            final Node existing = existingNodes.get(node.getNodeName());
+            if (existing != null && sameConfiguration(existing, node)) {
+                nodes.add(existing);
+            } else {
+                nodes.add(node);
+                changedNodes.add(node);
+            }
+        }
+        final List<Node> removedNodes = new ArrayList<>();
+        for (Node node : existingNodes.values()) {
+            if (configuredNodesNames.contains(node.getNodeName())) {
+                continue;
+            }
+            if (shouldKeepNode(node)) {
+                nodes.add(node);
+            } else {
+                removedNodes.add(node);
+            }
+        }
+
+        final int changes = changedNodes.size() + removedNodes.size();
+        if (changes == 0) {
+            return;
+        }
+        LOGGER.log(
+                Level.FINE,
+                "Adding or replacing {0} nodes, removing {1} nodes",
+                new Object[] {changedNodes.size(), removedNodes.size()});
+        if (changes * 2 > nodes.size()) {
+            jenkins.setNodes(nodes);
+            return;
+        }
+        for (Node node : changedNodes) {
+            jenkins.addNode(node);
+        }
+        for (Node node : removedNodes) {
+            jenkins.removeNode(node);
+        }
+    }
+
+    private static boolean sameConfiguration(Node existing, Node configured) {
+        if (existing.getClass() != configured.getClass()) {
+            return false;
+        }
+        try {
+            return Jenkins.XSTREAM2.toXML(existing).equals(Jenkins.XSTREAM2.toXML(configured));
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.FINE, "Failed to compare node " + existing.getNodeName(), e);
+            return false;
+        }
+    }
+
     private boolean shouldKeepNode(Node node) {
         boolean instantiable =
                 Try.of(() -> node.getDescriptor().isInstantiable()).getOrElse(true);
@@ -0,0 +1,107 @@
+package io.jenkins.plugins.casc.core;
+
+import hudson.model.User;
+import hudson.security.HudsonPrivateSecurityRealm;
+import io.jenkins.plugins.casc.ConfigurationAsCode;
+import io.jenkins.plugins.casc.ConfigurationContext;
+import io.jenkins.plugins.casc.Configurator;
+import io.jenkins.plugins.casc.ConfiguratorException;
+import io.jenkins.plugins.casc.core.HudsonPrivateSecurityRealmConfigurator.UserWithPassword;
+import io.jenkins.plugins.casc.model.CNode;
+import io.jenkins.plugins.casc.model.Mapping;
+import io.jenkins.plugins.casc.yaml.YamlStreamWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.yaml.snakeyaml.nodes.Node;
+
+public class UserExporter {
+
+    private static final Logger LOGGER = Logger.getLogger(UserExporter.class.getName());
+
+    public static final String EXPORT_PAGE_SIZE_PROPERTY = "casc.export.users.pageSize";
+
+    /**
+     * Streams all users of a Jenkins' own user database as a single {@code jenkins.securityRealm.local.users}
+     * document. Users are described a page at a time and written as soon as the page is ready, so only a page of
+     * described users is held in memory at once. The realm still loads all {@link User}s up front.
+     *
+     * @param realm realm to export users of
+     * @param context context shared by all users
+     * @param out destination, flushed but not closed
+     * @param idsOnly only export user ids, rather than names, descriptions and properties
+     * @return number of exported users
+     */
+    public int export(HudsonPrivateSecurityRealm realm, ConfigurationContext context, Writer out, boolean idsOnly)
+            throws IOException, ConfiguratorException {
+        final ConfigurationAsCode casc = ConfigurationAsCode.get();
+        final Configurator<UserWithPassword> configurator = context.lookupOrFail(UserWithPassword.class);
+        final int pageSize = getPageSize();
+        final List<User> page = new ArrayList<>(pageSize);
+
+        int exported = 0;
+        try (YamlStreamWriter writer = new YamlStreamWriter(out)) {
+            writer.startMapping().key("jenkins").startMapping();
+            writer.key("securityRealm").startMapping().key("local").startMapping();
+            writer.key("users").startSequence();
+            for (User user : realm.getAllUsers()) {
+                page.add(user);
+                if (page.size() >= pageSize) {
+                    exported += write(writer, page, casc, configurator, context, idsOnly);
+                    page.clear();
+                }
+            }
+            exported += write(writer, page, casc, configurator, context, idsOnly);
+            writer.endSequence();
+            writer.endMapping().endMapping();
+            writer.endMapping().endMapping();
+        }
+        return exported;
+    }
+
+    private static int write(
+            YamlStreamWriter writer,
+            List<User> page,
+            ConfigurationAsCode casc,
+            Configurator<UserWithPassword> configurator,
+            ConfigurationContext context,
+            boolean idsOnly)
+            throws IOException {
+        final List<Node> nodes = new ArrayList<>(page.size());
+        for (User user : page) {
+            try {
+                final Node node = casc.toYaml(describe(user, configurator, context, idsOnly));
+                if (node != null) {
+                    nodes.add(node);
+                }
+            } catch (Exception e) {
+                // Don't fail the whole export, prefer logging this error
+                LOGGER.log(Level.WARNING, "Failed to export JCasC for user: " + user.getId(), e);
+            }
+        }
+        for (Node node : nodes) {
+            writer.write(node);
+        }
+        return nodes.size();
+    }
+
+    private static CNode describe(
+            User user, Configurator<UserWithPassword> configurator, ConfigurationContext context, boolean idsOnly)
+            throws Exception {
+        if (idsOnly) {
+            // no need to look for attributes which differ from their default value
+            final Mapping mapping = new Mapping();
+            mapping.put("id", user.getId());
+            return mapping;
+        }
+        return configurator.describe(HudsonPrivateSecurityRealmConfigurator.toUserWithPassword(user, false), context);
+    }
+
+    private static int getPageSize() {
+        return Math.max(1, NumberUtils.toInt(System.getProperty(EXPORT_PAGE_SIZE_PROPERTY), 100));
+    }
+}
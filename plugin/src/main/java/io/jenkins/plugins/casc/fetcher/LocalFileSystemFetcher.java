@@ -13,6 +13,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
 
 @Extension(ordinal = -100)
 public class LocalFileSystemFetcher implements CasCConfigFetcher {
@@ -34,18 +36,26 @@ public class LocalFileSystemFetcher implements CasCConfigFetcher {
         }
     }
 
-    @Override
-    public FetchResult fetch(String location, FetchCredentials credentials) throws IOException {
-        final Path root;
+    /**
+     * Resolve a supported location to a local path.
+     * @param location file URI or path
+     * @throws IOException the location isn't a valid file URI
+     */
+    @Restricted(NoExternalUse.class)
+    public static Path toPath(String location) throws IOException {
         if (location.startsWith("file:")) {
             try {
-                root = Paths.get(URI.create(location));
+                return Paths.get(URI.create(location));
             } catch (IllegalArgumentException e) {
                 throw new IOException("Invalid file URI format: " + location, e);
             }
-        } else {
-            root = Paths.get(location);
         }
+        return Paths.get(location);
+    }
+
+    @Override
+    public FetchResult fetch(String location, FetchCredentials credentials) throws IOException {
+        final Path root = toPath(location);
 
         if (!Files.exists(root)) {
             throw new IOException("Invalid configuration: '" + root + "' isn't a valid path.");
@@ -12,20 +12,29 @@ import io.jenkins.plugins.casc.Configurable;
 import io.jenkins.plugins.casc.Configurator;
 import io.jenkins.plugins.casc.ConfiguratorException;
 import io.jenkins.plugins.casc.ConfiguratorRegistry;
+import io.jenkins.plugins.casc.GenerateConfigurator;
 import io.jenkins.plugins.casc.RootElementConfigurator;
 import io.jenkins.plugins.casc.impl.configurators.ConfigurableConfigurator;
 import io.jenkins.plugins.casc.impl.configurators.DataBoundConfigurator;
 import io.jenkins.plugins.casc.impl.configurators.DescriptorConfigurator;
 import io.jenkins.plugins.casc.impl.configurators.EnumConfigurator;
 import io.jenkins.plugins.casc.impl.configurators.ExtensionConfigurator;
+import io.jenkins.plugins.casc.impl.configurators.GeneratedConfigurator;
 import io.jenkins.plugins.casc.impl.configurators.HeteroDescribableConfigurator;
 import io.jenkins.plugins.casc.impl.configurators.PrimitiveConfigurator;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import jenkins.model.Jenkins;
 import org.jvnet.tiger_types.Types;
@@ -62,7 +71,7 @@ public class DefaultConfiguratorRegistry implements ConfiguratorRegistry {
     @Override
     @NonNull
     public Configurator lookupOrFail(Type type) throws ConfiguratorException {
-        Configurator configurator = cache.get(type);
+        Configurator configurator = lookup(type);
         if (configurator == null) {
             throw new ConfiguratorException("Cannot find configurator for type " + type);
         }
@@ -77,11 +86,25 @@ public class DefaultConfiguratorRegistry implements ConfiguratorRegistry {
     @Override
     @CheckForNull
     public Configurator lookup(Type type) {
-        return cache.get(type);
+        return cache.get(type).orElse(null);
     }
 
-    private LoadingCache<Type, Configurator> cache =
-            Caffeine.newBuilder().expireAfterAccess(10L, TimeUnit.SECONDS).build(type -> internalLookup(type));
+    /**
+     * @return types no configurator could be found for since startup, sorted by name
+     */
+    @NonNull
+    public List<String> getUnsupportedTypes() {
+        final List<String> types = new ArrayList<>(unsupportedTypes);
+        Collections.sort(types);
+        return types;
+    }
+
+    // types without configurator are cached as well, as looking for one is as expensive as finding one
+    private LoadingCache<Type, Optional<Configurator>> cache = Caffeine.newBuilder()
+            .expireAfterAccess(10L, TimeUnit.SECONDS)
+            .build(type -> Optional.ofNullable(internalLookup(type)));
+
+    private final Set<String> unsupportedTypes = ConcurrentHashMap.newKeySet();
 
     private Configurator internalLookup(Type type) {
         Class clazz = Types.erasure(type);
@@ -117,6 +140,14 @@ public class DefaultConfiguratorRegistry implements ConfiguratorRegistry {
             }
         }
 
+        if (clazz.isAnnotationPresent(GenerateConfigurator.class)) {
+            // configurator generated at build time, so this type can be configured without reflection
+            final Configurator generated = GeneratedConfigurator.load(clazz);
+            if (generated != null) {
+                return generated;
+            }
+        }
+
         if (DataBoundConfigurator.getDataBoundConstructor(clazz) != null) {
             return new DataBoundConfigurator(clazz);
         }
@@ -138,7 +169,9 @@ public class DefaultConfiguratorRegistry implements ConfiguratorRegistry {
             return new EnumConfigurator(clazz);
         }
 
-        LOGGER.warning("Configuration-as-Code can't handle type " + type);
+        // only warn once per type, lookups are retried once the cache entry expired
+        final Level level = unsupportedTypes.add(type.getTypeName()) ? Level.WARNING : Level.FINE;
+        LOGGER.log(level, "Configuration-as-Code can''t handle type {0}", type);
         return null;
     }
 }
@@ -23,9 +23,12 @@ import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import jenkins.model.Jenkins;
@@ -63,8 +66,143 @@ public class DataBoundConfigurator<T> extends BaseConfigurator<T> {
         return false;
     }
 
+    /**
+     * Binding plans by target class, computed once per class as they only depend on reflection, and released with
+     * the class.
+     */
+    private static final ClassValue<BindingPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected BindingPlan computeValue(Class<?> type) {
+            return new BindingPlan(type);
+        }
+    };
+
+    /**
+     * How to bind a single {@link DataBoundConstructor} parameter.
+     * @param typeName parameter type, as reported when the constructor can't be invoked
+     * @param lookupType type to look up a configurator for
+     * @param secret whether the parameter value must not be logged, on top of what the target class tells
+     * @param whenMissing value to use for a required parameter missing from configuration, {@code null} if it can't
+     *     be omitted
+     * @param collection creates the collection to configure a collection parameter into, {@code null} for other types
+     */
+    private record Binding(
+            String name,
+            Class<?> type,
+            String typeName,
+            Type lookupType,
+            boolean required,
+            boolean secret,
+            @CheckForNull Object whenMissing,
+            @CheckForNull Supplier<Collection<Object>> collection) {
+
+        static Binding of(
+                String name, Class<?> type, String typeName, Type lookupType, boolean required, boolean secret) {
+            Object whenMissing = null;
+            if (Set.class.isAssignableFrom(type)) {
+                whenMissing = Collections.emptySet();
+            } else if (List.class.isAssignableFrom(type)) {
+                whenMissing = Collections.emptyList();
+            }
+
+            Supplier<Collection<Object>> collection = null;
+            if (Collection.class.isAssignableFrom(type)) {
+                collection = Set.class.isAssignableFrom(type) ? HashSet::new : ArrayList::new;
+            }
+
+            return new Binding(name, type, typeName, lookupType, required, secret, whenMissing, collection);
+        }
+    }
+
+    /**
+     * Everything needed to build instances of a class, so building many of them doesn't repeat the same reflection.
+     */
+    static final class BindingPlan {
+
+        @CheckForNull
+        private final Constructor<?> constructor;
+
+        /**
+         * Constructor signature, as reported when it can't be invoked, {@code null} if there is no constructor to bind.
+         */
+        @CheckForNull
+        private final String signature;
+
+        private final Parameter[] parameters;
+        private final Binding[] bindings;
+        private final List<Method> postConstructs = new ArrayList<>();
+
+        BindingPlan(Class<?> target) {
+            constructor = getDataBoundConstructor(target);
+            final String[] names;
+            if (constructor == null) {
+                signature = null;
+                parameters = new Parameter[0];
+                names = new String[0];
+            } else {
+                signature = constructor.toString();
+                parameters = constructor.getParameters();
+                names = ClassDescriptor.loadParameterNames(constructor);
+            }
+
+            final Class<?> clazz = constructor != null ? constructor.getDeclaringClass() : target;
+            final boolean nonnullByDefault = constructor != null
+                    && (hasAnnotation(constructor, PARAMETERS_ARE_NONNULL_ANNOTATIONS)
+                            || hasAnnotation(clazz, PARAMETERS_ARE_NONNULL_ANNOTATIONS));
+            final boolean packageNonnullByDefault = clazz.getPackage() != null
+                    && hasAnnotation(clazz.getPackage(), PARAMETERS_ARE_NONNULL_ANNOTATIONS);
+
+            bindings = new Binding[names.length];
+            for (int i = 0; i < names.length; i++) {
+                final Parameter parameter = parameters[i];
+                final Class<?> t = parameter.getType();
+                final Type pt = parameter.getParameterizedType();
+                final boolean required = hasAnnotation(parameter, NONNULL_ANNOTATIONS)
+                        || nonnullByDefault
+                        || packageNonnullByDefault && !hasAnnotation(parameter, NULLABLE_ANNOTATIONS);
+
+                bindings[i] = Binding.of(names[i], t, pt.getTypeName(), pt, required, false);
+            }
+
+            for (Method method : target.getMethods()) {
+                if (method.getParameterCount() == 0 && hasAnnotation(method, POST_CONSTRUCT_ANNOTATIONS)) {
+                    postConstructs.add(method);
+                }
+            }
+        }
+
+        /**
+         * Plan of a {@link GeneratedConfigurator}, which invokes the constructor and its {@code PostConstruct} methods
+         * itself.
+         */
+        BindingPlan(Class<?> target, List<GeneratedConfigurator.Argument> arguments) {
+            constructor = null;
+            parameters = new Parameter[0];
+            bindings = new Binding[arguments.size()];
+            final List<String> typeNames = new ArrayList<>(arguments.size());
+            for (int i = 0; i < bindings.length; i++) {
+                final GeneratedConfigurator.Argument argument = arguments.get(i);
+                final Class<?> t = argument.type();
+                bindings[i] = Binding.of(
+                        argument.name(),
+                        t,
+                        t.getName(),
+                        argument.elementType() != null ? argument.elementType() : t,
+                        argument.required(),
+                        argument.secret());
+                typeNames.add(t.getName());
+            }
+            signature = target.getName() + "(" + String.join(",", typeNames) + ")";
+        }
+    }
+
     private final Class<T> target;
 
+    /**
+     * Attribute values of an instance built with default constructor arguments, by attribute name.
+     */
+    private volatile Map<String, Object> defaults;
+
     public DataBoundConfigurator(Class<T> clazz) {
         this.target = clazz;
     }
@@ -89,25 +227,69 @@ public class DataBoundConfigurator<T> extends BaseConfigurator<T> {
      */
     @Override
     protected T instance(Mapping config, ConfigurationContext context) throws ConfiguratorException {
-        final Constructor dataBoundConstructor = getDataBoundConstructor();
-        return tryConstructor((Constructor<T>) dataBoundConstructor, config, context);
+        final BindingPlan plan = getBindingPlan();
+        if (plan.signature == null) {
+            throw new ConfiguratorException(target.getName() + " is missing a @DataBoundConstructor");
+        }
+        return tryConstructor(plan, config, context);
+    }
+
+    /**
+     * @return how to bind the {@link DataBoundConstructor} parameters of the target
+     */
+    BindingPlan getBindingPlan() {
+        return PLANS.get(target);
+    }
+
+    /**
+     * Invokes the {@link DataBoundConstructor}.
+     * @param args arguments, in the order of the constructor parameters
+     */
+    protected T construct(Object[] args) throws Exception {
+        return (T) getDataBoundConstructor().newInstance(args);
+    }
+
+    /**
+     * Same as {@link BaseConfigurator#describe()}: the attributes set with setters.
+     */
+    @NonNull
+    protected Set<Attribute<T, ?>> attributes() {
+        return super.describe();
+    }
+
+    /**
+     * Attributes of the {@link DataBoundConstructor} parameters, in order, with {@code null} entries for those which
+     * can't be described.
+     */
+    @NonNull
+    protected List<Attribute<T, ?>> argumentAttributes() {
+        final BindingPlan plan = getBindingPlan();
+        final List<Attribute<T, ?>> attributes = new ArrayList<>(plan.parameters.length);
+        for (int i = 0; i < plan.parameters.length; i++) {
+            attributes.add(createAttribute(plan.bindings[i].name(), TypePair.of(plan.parameters[i])));
+        }
+        return attributes;
     }
 
     @NonNull
     @Override
     public T configure(CNode c, ConfigurationContext context) throws ConfiguratorException {
         T object = super.configure(c, context);
+        postConstruct(object);
+        return object;
+    }
 
-        for (Method method : target.getMethods()) {
-            if (method.getParameterCount() == 0 && hasAnnotation(method, POST_CONSTRUCT_ANNOTATIONS)) {
-                try {
-                    method.invoke(object, null);
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    throw new ConfiguratorException(this, "Failed to invoke configurator method " + method, e);
-                }
+    /**
+     * Invokes the {@code PostConstruct} methods of a configured object.
+     */
+    protected void postConstruct(T object) throws ConfiguratorException {
+        for (Method method : getBindingPlan().postConstructs) {
+            try {
+                method.invoke(object);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new ConfiguratorException(this, "Failed to invoke configurator method " + method, e);
             }
         }
-        return object;
     }
 
     @Override
@@ -117,114 +299,77 @@ public class DataBoundConfigurator<T> extends BaseConfigurator<T> {
         return super.configure(config, context);
     }
 
-    private T tryConstructor(Constructor<T> constructor, Mapping config, ConfigurationContext context)
+    private T tryConstructor(BindingPlan plan, Mapping config, ConfigurationContext context)
             throws ConfiguratorException {
-        final Parameter[] parameters = constructor.getParameters();
-        final String[] names = ClassDescriptor.loadParameterNames(constructor);
-        Object[] args = new Object[names.length];
-
-        if (parameters.length > 0) {
-            // Many jenkins components haven't been migrated to @DataBoundSetter vs @NotNull constructor parameters
-            // as a result it might be valid to reference a describable without parameters
-
-            for (int i = 0; i < names.length; i++) {
-                final CNode value = config.get(names[i]);
-                final Class t = parameters[i].getType();
-
-                Class<?> clazz = constructor.getDeclaringClass();
-                if (value == null
-                        && (hasAnnotation(parameters[i], NONNULL_ANNOTATIONS)
-                                || hasAnnotation(constructor, PARAMETERS_ARE_NONNULL_ANNOTATIONS)
-                                || hasAnnotation(clazz, PARAMETERS_ARE_NONNULL_ANNOTATIONS)
-                                || hasAnnotation(clazz.getPackage(), PARAMETERS_ARE_NONNULL_ANNOTATIONS)
-                                        && !hasAnnotation(parameters[i], NULLABLE_ANNOTATIONS))) {
-
-                    if (Set.class.isAssignableFrom(t)) {
-                        LOGGER.log(
-                                Level.FINER,
-                                "The parameter to be set is @Nonnull but is not present; "
-                                        + "setting equal to empty set.");
-                        args[i] = Collections.emptySet();
-                    } else if (List.class.isAssignableFrom(t)) {
-                        LOGGER.log(
-                                Level.FINER,
-                                "The parameter to be set is @Nonnull but is not present; "
-                                        + "setting equal to empty list.");
-                        args[i] = Collections.emptyList();
-                    } else {
-                        throw new ConfiguratorException(names[i] + " is required to configure " + target);
-                    }
-                    continue;
+        final Binding[] bindings = plan.bindings;
+        Object[] args = new Object[bindings.length];
+
+        // Many jenkins components haven't been migrated to @DataBoundSetter vs @NotNull constructor parameters
+        // as a result it might be valid to reference a describable without parameters
+        for (int i = 0; i < bindings.length; i++) {
+            final Binding binding = bindings[i];
+            final CNode value = config.get(binding.name());
+            final Class t = binding.type();
+
+            if (value == null && binding.required()) {
+                if (binding.whenMissing() == null) {
+                    throw new ConfiguratorException(binding.name() + " is required to configure " + target);
                 }
+                LOGGER.log(
+                        Level.FINER,
+                        "The parameter to be set is @Nonnull but is not present; setting equal to empty collection.");
+                args[i] = binding.whenMissing();
+                continue;
+            }
 
-                if (value != null) {
-                    if (Collection.class.isAssignableFrom(t)) {
-                        final Type pt = parameters[i].getParameterizedType();
-                        final Configurator lookup = context.lookupOrFail(pt);
-
-                        final Collection<Object> collection;
-
-                        if (Set.class.isAssignableFrom(t)) {
-                            collection = new HashSet<>();
-                        } else {
-                            collection = new ArrayList<>();
-                        }
-
-                        for (CNode o : value.asSequence()) {
-                            collection.add(lookup.configure(o, context));
-                        }
-                        args[i] = collection;
-
-                    } else {
-                        final Type pt = parameters[i].getParameterizedType();
-                        final Type k = pt != null ? pt : t;
-                        final Configurator configurator = context.lookupOrFail(k);
-                        args[i] = configurator.configure(value, context);
+            if (value != null) {
+                final Configurator configurator = context.lookupOrFail(binding.lookupType());
+                if (binding.collection() != null) {
+                    final Collection<Object> collection = binding.collection().get();
+                    for (CNode o : value.asSequence()) {
+                        collection.add(configurator.configure(o, context));
                     }
-                    if (LOGGER.isLoggable(Level.FINE)) {
-                        LOGGER.log(Level.FINE, "Setting {0}.{1} = {2}", new Object[] {
-                            target,
-                            names[i],
-                            t == Secret.class || Attribute.calculateIfSecret(target, names[i]) ? "****" : value
-                        });
-                    }
-                } else if (t.isPrimitive()) {
-                    args[i] = defaultPrimitiveValue(t);
+                    args[i] = collection;
+                } else {
+                    args[i] = configurator.configure(value, context);
+                }
+                if (LOGGER.isLoggable(Level.FINE)) {
+                    final boolean secret = binding.secret()
+                            || t == Secret.class
+                            || Attribute.calculateIfSecret(target, binding.name());
+                    LOGGER.log(Level.FINE, "Setting {0}.{1} = {2}", new Object[] {
+                        target, binding.name(), secret ? "****" : value
+                    });
                 }
+            } else if (t.isPrimitive()) {
+                args[i] = defaultPrimitiveValue(t);
             }
         }
 
         final T object;
         try {
-            object = constructor.newInstance(args);
-        } catch (IllegalArgumentException
-                | InstantiationException
-                | InvocationTargetException
-                | IllegalAccessException ex) {
+            object = construct(args);
+        } catch (Exception ex) {
             List<String> argumentTypes = new ArrayList<>(args.length);
             for (Object arg : args) {
                 argumentTypes.add(arg != null ? arg.getClass().getName() : "null");
             }
-            List<String> parameterTypes = new ArrayList<>(parameters.length);
-            for (Parameter parameter : parameters) {
-                parameterTypes.add(parameter.getParameterizedType().getTypeName());
-            }
-            List<String> expectedParamList = new ArrayList<>(parameters.length);
-            for (int i = 0; i < parameters.length; i++) {
-                expectedParamList.add(names[i] + " " + parameterTypes.get(i));
+            List<String> expectedParamList = new ArrayList<>(bindings.length);
+            for (Binding binding : bindings) {
+                expectedParamList.add(binding.name() + " " + binding.typeName());
             }
             throw new ConfiguratorException(
                     this,
                     "Failed to construct instance of " + target + ".\n Constructor: "
-                            + constructor + ".\n Arguments: "
+                            + plan.signature + ".\n Arguments: "
                             + argumentTypes + ".\n Expected Parameters: "
                             + String.join(", ", expectedParamList),
                     ex);
         }
 
         // constructor was successful, so let's removed configuration elements we have consumed doing so.
-        for (String name : names) {
-            config.remove(name);
+        for (Binding binding : bindings) {
+            config.remove(binding.name());
         }
 
         return object;
@@ -277,23 +422,12 @@ public class DataBoundConfigurator<T> extends BaseConfigurator<T> {
     @NonNull
     @Override
     public Set<Attribute<T, ?>> describe() {
-        final Set<Attribute<T, ?>> attributes = super.describe();
-
-        final Constructor constructor = getDataBoundConstructor(target);
-
-        if (constructor != null) {
-            final Parameter[] parameters = constructor.getParameters();
-            final String[] names = ClassDescriptor.loadParameterNames(constructor);
-            for (int i = 0; i < parameters.length; i++) {
-                final Parameter p = parameters[i];
-                final Attribute a = createAttribute(names[i], TypePair.of(p));
-                if (a == null) {
-                    continue;
-                }
-                attributes.add(a);
+        final Set<Attribute<T, ?>> attributes = attributes();
+        for (Attribute<T, ?> attribute : argumentAttributes()) {
+            if (attribute != null) {
+                attributes.add(attribute);
             }
         }
-
         return attributes;
     }
 
@@ -307,57 +441,83 @@ public class DataBoundConfigurator<T> extends BaseConfigurator<T> {
         // need to be compared with default values.
 
         // Build same object with only constructor parameters
-        final Constructor constructor = getDataBoundConstructor();
-
-        final Parameter[] parameters = constructor.getParameters();
-        final String[] names = ClassDescriptor.loadParameterNames(constructor);
-        final Attribute[] attributes = new Attribute[parameters.length];
-        final Object[] args = new Object[parameters.length];
-        for (int i = 0; i < parameters.length; i++) {
-            final Parameter p = parameters[i];
-            final Attribute a = createAttribute(names[i], TypePair.of(p));
+        final Binding[] bindings = getBindingPlan().bindings;
+        final List<Attribute<T, ?>> attributes = argumentAttributes();
+        final Object[] args = new Object[bindings.length];
+        for (int i = 0; i < bindings.length; i++) {
+            final Class<?> t = bindings[i].type();
+            final Attribute a = attributes.get(i);
             if (a != null) {
                 Object value = a.getValue(instance);
                 if (value != null) {
                     Object converted = Stapler.CONVERT_UTILS.convert(value, a.getType());
-                    if (converted instanceof Collection || p.getType().isArray() || !a.isMultiple()) {
+                    if (converted instanceof Collection || t.isArray() || !a.isMultiple()) {
                         args[i] = converted;
-                    } else if (Set.class.isAssignableFrom(p.getType())) {
+                    } else if (Set.class.isAssignableFrom(t)) {
                         args[i] = Collections.singleton(converted);
                     } else {
                         args[i] = Collections.singletonList(converted);
                     }
                 }
-                if (args[i] == null && p.getType().isPrimitive()) {
-                    args[i] = defaultPrimitiveValue(p.getType());
+                if (args[i] == null && t.isPrimitive()) {
+                    args[i] = defaultPrimitiveValue(t);
                 }
-                attributes[i] = a;
             }
         }
 
-        T ref = (T) constructor.newInstance(args);
-
-        // compare instance with this "default" object
-        Mapping mapping = compare(instance, ref, context);
+        final Mapping mapping;
+        if (isDefault(bindings, args)) {
+            // compare instance with attribute values of the "default" object, which is the same for all instances
+            mapping = compare(instance, defaults(args), context);
+        } else {
+            // compare instance with this "default" object
+            mapping = compare(instance, construct(args), context);
+        }
 
         // add constructor parameters
-        for (int i = 0; i < parameters.length; i++) {
+        for (int i = 0; i < bindings.length; i++) {
             if (args[i] == null) {
                 continue;
             }
-            mapping.put(names[i], attributes[i].describe(instance, context));
+            mapping.put(bindings[i].name(), attributes.get(i).describe(instance, context));
         }
 
         return mapping;
     }
 
+    private static boolean isDefault(Binding[] bindings, Object[] args) {
+        for (int i = 0; i < bindings.length; i++) {
+            if (args[i] == null) {
+                continue;
+            }
+            final Class<?> type = bindings[i].type();
+            if (!type.isPrimitive() || !args[i].equals(defaultPrimitiveValue(type))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Map<String, Object> defaults(Object[] args) throws Exception {
+        Map<String, Object> values = defaults;
+        if (values == null) {
+            T ref = construct(args);
+            values = new HashMap<>();
+            for (Attribute<T, ?> attribute : getAttributes()) {
+                values.put(attribute.getName(), attribute.getValue(ref));
+            }
+            defaults = values;
+        }
+        return values;
+    }
+
     /**
      * Gets DataBoundConstructor or fails.
      * @return constructor with {@link org.kohsuke.stapler.DataBoundConstructor} annotation
      * @throws ConfiguratorException Constructor not found
      */
     private Constructor getDataBoundConstructor() throws ConfiguratorException {
-        final Constructor constructor = getDataBoundConstructor(target);
+        final Constructor constructor = PLANS.get(target).constructor;
         if (constructor == null) {
             throw new ConfiguratorException(target.getName() + " is missing a @DataBoundConstructor");
         }
@@ -369,7 +529,7 @@ public class DataBoundConfigurator<T> extends BaseConfigurator<T> {
         return descriptor != null ? descriptor.getDisplayName() : getName();
     }
 
-    private Object defaultPrimitiveValue(Class<?> cls) {
+    static Object defaultPrimitiveValue(Class<?> cls) {
         if (boolean.class == cls) {
             return Boolean.FALSE;
         }
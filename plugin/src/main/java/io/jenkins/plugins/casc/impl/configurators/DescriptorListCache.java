@@ -0,0 +1,85 @@
+package io.jenkins.plugins.casc.impl.configurators;
+
+import hudson.Extension;
+import hudson.ExtensionList;
+import hudson.ExtensionListListener;
+import hudson.model.Descriptor;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Keeps data derived from the descriptor list, such as the symbol to descriptor resolution of
+ * {@link HeteroDescribableConfigurator}s per extension point, or the descriptors of a
+ * {@link jenkins.model.GlobalConfigurationCategory}, so they are not computed again for every configured element.
+ * Everything is discarded as soon as the descriptor list changes, e.g. when a plugin is dynamically loaded.
+ */
+@Extension
+@Restricted(NoExternalUse.class)
+public class DescriptorListCache {
+
+    private final Map<Object, Object> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented when the descriptor list changes. Only read and written while holding the monitor, together with
+     * {@link #entries}, so a value is never stored once the list it was computed from changed.
+     */
+    private long generation;
+
+    private volatile boolean listening;
+
+    static DescriptorListCache get() {
+        return ExtensionList.lookupSingleton(DescriptorListCache.class);
+    }
+
+    /**
+     * Get the value cached for a key, computing it if needed.
+     * Callers must use keys of distinct types, as values of all kinds share the same cache.
+     */
+    @SuppressWarnings("unchecked")
+    <K, V> V get(K key, Function<K, V> builder) {
+        listen();
+        Object value = entries.get(key);
+        if (value == null) {
+            final long built;
+            synchronized (this) {
+                built = generation;
+            }
+            value = builder.apply(key);
+            synchronized (this) {
+                // don't keep a value computed from a descriptor list which changed meanwhile
+                if (built == generation) {
+                    final Object existing = entries.putIfAbsent(key, value);
+                    if (existing != null) {
+                        value = existing;
+                    }
+                }
+            }
+        }
+        return (V) value;
+    }
+
+    private void listen() {
+        if (listening) {
+            return;
+        }
+        synchronized (this) {
+            if (!listening) {
+                ExtensionList.lookup(Descriptor.class).addListener(new ExtensionListListener() {
+                    @Override
+                    public void onChange() {
+                        invalidate();
+                    }
+                });
+                listening = true;
+            }
+        }
+    }
+
+    synchronized void invalidate() {
+        generation++;
+        entries.clear();
+    }
+}
@@ -0,0 +1,115 @@
+package io.jenkins.plugins.casc.impl.configurators;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.jenkins.plugins.casc.Attribute;
+import io.jenkins.plugins.casc.GenerateConfigurator;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Base class of the configurators generated for classes annotated with {@link GenerateConfigurator}.
+ * Binds configuration the same way as {@link DataBoundConfigurator}, but invokes the
+ * {@link org.kohsuke.stapler.DataBoundConstructor}, setters, getters and {@code PostConstruct} methods with code
+ * generated at build time rather than reflection. Generated configurators of classes which have {@code PostConstruct}
+ * methods override {@link #postConstruct}. Not meant to be extended by hand.
+ */
+public abstract class GeneratedConfigurator<T> extends DataBoundConfigurator<T> {
+
+    private static final Logger LOGGER = Logger.getLogger(GeneratedConfigurator.class.getName());
+
+    /**
+     * Suffix of the generated configurator class names.
+     */
+    public static final String SUFFIX = "_CascConfigurator";
+
+    /**
+     * A {@link org.kohsuke.stapler.DataBoundConstructor} parameter.
+     * @param type parameter type, {@code List}, {@code Set} or {@code Collection} for collection parameters
+     * @param elementType type of the collection elements, {@code null} for other parameters
+     * @param required whether the parameter is {@code Nonnull}
+     * @param secret whether the parameter value must not be logged
+     */
+    public record Argument(
+            String name, Class<?> type, @CheckForNull Class<?> elementType, boolean required, boolean secret) {}
+
+    private final BindingPlan plan;
+
+    protected GeneratedConfigurator(Class<T> target, List<Argument> arguments) {
+        super(target);
+        this.plan = new BindingPlan(target, arguments);
+    }
+
+    @Override
+    BindingPlan getBindingPlan() {
+        return plan;
+    }
+
+    /**
+     * Invokes the {@link org.kohsuke.stapler.DataBoundConstructor}.
+     * @param args arguments, in the order of {@link #GeneratedConfigurator(Class, List)}
+     */
+    @Override
+    protected abstract T construct(Object[] args) throws Exception;
+
+    @NonNull
+    @Override
+    protected abstract Set<Attribute<T, ?>> attributes();
+
+    @NonNull
+    @Override
+    protected abstract List<Attribute<T, ?>> argumentAttributes();
+
+    /**
+     * Loads the configurator generated for a class annotated with {@link GenerateConfigurator}.
+     * @return the generated configurator, {@code null} if there is none
+     */
+    @CheckForNull
+    @SuppressWarnings("unchecked")
+    public static <T> GeneratedConfigurator<T> load(@NonNull Class<T> clazz) {
+        final String name = getGeneratedName(clazz);
+        try {
+            final Class<?> generated = Class.forName(name, true, clazz.getClassLoader());
+            if (!GeneratedConfigurator.class.isAssignableFrom(generated)) {
+                LOGGER.log(
+                        Level.WARNING,
+                        "{0} isn''t a generated configurator, configuring {1} by reflection",
+                        new Object[] {name, clazz.getName()});
+                return null;
+            }
+            final GeneratedConfigurator<T> configurator =
+                    (GeneratedConfigurator<T>) generated.getConstructor().newInstance();
+            if (configurator.getTarget() != clazz) {
+                LOGGER.log(Level.WARNING, "{0} doesn''t configure {1}, configuring it by reflection", new Object[] {
+                    name, clazz.getName()
+                });
+                return null;
+            }
+            return configurator;
+        } catch (ClassNotFoundException e) {
+            LOGGER.log(
+                    Level.FINE,
+                    "{0} has no generated configurator, configuring it by reflection. Is the annotation processor "
+                            + "part of its build?",
+                    clazz.getName());
+            return null;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            LOGGER.log(
+                    Level.WARNING, "Failed to load " + name + ", configuring " + clazz.getName() + " by reflection", e);
+            return null;
+        }
+    }
+
+    /**
+     * @return name of the configurator generated for a class
+     */
+    @NonNull
+    public static String getGeneratedName(@NonNull Class<?> clazz) {
+        final String packageName = clazz.getPackageName();
+        final String simpleName =
+                packageName.isEmpty() ? clazz.getName() : clazz.getName().substring(packageName.length() + 1);
+        return (packageName.isEmpty() ? "" : packageName + ".") + simpleName.replace('$', '_') + SUFFIX;
+    }
+}
@@ -17,6 +17,7 @@ import io.jenkins.plugins.casc.model.CNode;
 import io.jenkins.plugins.casc.model.Mapping;
 import io.jenkins.plugins.casc.model.Scalar;
 import io.jenkins.plugins.casc.model.Sequence;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.logging.Logger;
@@ -83,14 +84,33 @@ public class GlobalConfigurationCategoryConfigurator extends BaseConfigurator<Gl
     @NonNull
     @Override
     public Set<Attribute<GlobalConfigurationCategory, ?>> describe() {
-        return Jenkins.get().getExtensionList(Descriptor.class).stream()
-                .filter(d -> d.getCategory() == category)
-                .filter(d -> d.getGlobalConfigPage() != null)
-                .map(DescriptorConfigurator::new)
-                .filter(GlobalConfigurationCategoryConfigurator::reportDescriptorWithoutSetters)
-                .map(c -> new Attribute<GlobalConfigurationCategory, Object>(c.getNames(), c.getTarget())
-                        .setter(typedNop()))
-                .collect(Collectors.toSet());
+        return new HashSet<>(partition().attributes);
+    }
+
+    /**
+     * Descriptors of this category, computed once until the descriptor list changes.
+     */
+    private Partition partition() {
+        return DescriptorListCache.get().get(category, Partition::new);
+    }
+
+    private static final class Partition {
+
+        private final List<DescriptorConfigurator> configurators;
+        private final Set<Attribute<GlobalConfigurationCategory, ?>> attributes;
+
+        Partition(GlobalConfigurationCategory category) {
+            this.configurators = Jenkins.get().getExtensionList(Descriptor.class).stream()
+                    .filter(d -> d.getCategory() == category)
+                    .filter(d -> d.getGlobalConfigPage() != null)
+                    .map(DescriptorConfigurator::new)
+                    .collect(Collectors.toList());
+            this.attributes = configurators.stream()
+                    .filter(GlobalConfigurationCategoryConfigurator::reportDescriptorWithoutSetters)
+                    .map(c -> new Attribute<GlobalConfigurationCategory, Object>(c.getNames(), c.getTarget())
+                            .setter(typedNop()))
+                    .collect(Collectors.toSet());
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -112,9 +132,9 @@ public class GlobalConfigurationCategoryConfigurator extends BaseConfigurator<Gl
     public CNode describe(GlobalConfigurationCategory instance, ConfigurationContext context) {
 
         final Mapping mapping = new Mapping();
-        Jenkins.get().getExtensionList(Descriptor.class).stream()
-                .filter(this::filterDescriptors)
-                .forEach(d -> describe(d, mapping, context));
+        for (DescriptorConfigurator c : partition().configurators) {
+            describe(c, mapping, context);
+        }
         mapping.entrySet()
                 .removeIf(e -> e.getValue() instanceof Mapping m
                         && m.keySet().equals(Set.of("installations"))
@@ -123,8 +143,8 @@ public class GlobalConfigurationCategoryConfigurator extends BaseConfigurator<Gl
         return mapping;
     }
 
-    private void describe(Descriptor d, Mapping mapping, ConfigurationContext context) {
-        final DescriptorConfigurator c = new DescriptorConfigurator(d);
+    private void describe(DescriptorConfigurator c, Mapping mapping, ConfigurationContext context) {
+        final Descriptor d = c.getTargetComponent(context);
         try {
             final CNode node = c.describe(d, context);
             if (node != null) {
@@ -135,8 +155,4 @@ public class GlobalConfigurationCategoryConfigurator extends BaseConfigurator<Gl
             mapping.put(c.getName(), scalar);
         }
     }
-
-    private boolean filterDescriptors(Descriptor d) {
-        return d.getCategory() == category && d.getGlobalConfigPage() != null;
-    }
 }
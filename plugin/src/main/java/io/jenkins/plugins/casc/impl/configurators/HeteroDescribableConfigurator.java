@@ -21,16 +21,18 @@ import io.jenkins.plugins.casc.model.Mapping;
 import io.jenkins.plugins.casc.model.Scalar;
 import io.vavr.Tuple;
 import io.vavr.Tuple2;
-import io.vavr.collection.HashMap;
 import io.vavr.collection.Stream;
 import io.vavr.control.Option;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -73,7 +75,7 @@ public class HeteroDescribableConfigurator<T extends Describable<T>> implements
     @NonNull
     @Override
     public List<Configurator<T>> getConfigurators(ConfigurationContext context) {
-        return getDescriptors()
+        return Stream.ofAll(symbols().descriptors)
                 .flatMap(d -> lookupConfigurator(context, descriptorClass(d)))
                 .append(this)
                 .toJavaList();
@@ -122,11 +124,50 @@ public class HeteroDescribableConfigurator<T extends Describable<T>> implements
 
     @SuppressWarnings("unused")
     public Map<String, Class<T>> getImplementors() {
-        return getDescriptors()
-                .map(descriptor -> Tuple.of(preferredSymbol(descriptor), descriptor))
-                .foldLeft(HashMap.empty(), this::handleDuplicateSymbols)
-                .mapValues(this::descriptorClass)
-                .toJavaMap();
+        Map<String, Class<T>> implementors = new LinkedHashMap<>();
+        symbols().implementors.forEach((symbol, descriptor) -> implementors.put(symbol, descriptorClass(descriptor)));
+        return implementors;
+    }
+
+    /**
+     * Descriptors of the target extension point indexed by their symbols, shared by all configurators of the same
+     * target until the descriptor list changes.
+     */
+    private Symbols<T> symbols() {
+        return DescriptorListCache.get().get(target, type -> new Symbols<>(getDescriptors().toJavaList(), target));
+    }
+
+    private static final class Symbols<T extends Describable<T>> {
+
+        private final List<Descriptor<T>> descriptors;
+
+        /**
+         * Descriptors by preferred symbol, the first one wins when several use the same symbol.
+         */
+        private final Map<String, Descriptor<T>> implementors = new LinkedHashMap<>();
+
+        private final Map<String, Descriptor<T>> byPreferredSymbol = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        private final Map<String, Descriptor<T>> bySymbol = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        private final Map<Descriptor<?>, String> preferredSymbols = new HashMap<>();
+
+        Symbols(List<Descriptor<T>> descriptors, Class<T> target) {
+            this.descriptors = descriptors;
+            for (Descriptor<T> descriptor : descriptors) {
+                List<String> symbols = DescribableAttribute.getSymbols(descriptor, target, target);
+                String preferred = symbols.get(0);
+                preferredSymbols.put(descriptor, preferred);
+                Descriptor<T> duplicate = implementors.putIfAbsent(preferred, descriptor);
+                if (duplicate != null) {
+                    LOGGER.warning(String.format(
+                            "Found multiple implementations for symbol = %s: [%s, %s]. Please report to plugin maintainer.",
+                            preferred, duplicate, descriptor));
+                }
+                byPreferredSymbol.putIfAbsent(preferred, descriptor);
+                for (String symbol : symbols) {
+                    bySymbol.putIfAbsent(symbol, descriptor);
+                }
+            }
+        }
     }
 
     private Option<Configurator<T>> lookupConfigurator(ConfigurationContext context, Class<?> descriptor) {
@@ -216,65 +257,35 @@ public class HeteroDescribableConfigurator<T extends Describable<T>> implements
     }
 
     private Option<Descriptor<T>> lookupDescriptor(String symbol, CNode config) {
-        Stream<Descriptor<T>> descriptors = getDescriptors();
-        return descriptors
-                .filter(descriptor ->
-                        findByPreferredSymbol(descriptor, symbol) || findBySymbols(descriptor, symbol, config))
-                .map(descriptor -> Tuple.of(preferredSymbol(descriptor), descriptor))
-                .foldLeft(HashMap.empty(), this::handleDuplicateSymbols)
-                .values()
-                .headOption()
-                .orElse(() -> {
-                    List<String> availableImplementations = descriptors
-                            .toJavaStream()
-                            .map(d -> DescribableAttribute.getPreferredSymbol(d, getImplementedAPI(), target))
-                            .collect(Collectors.toList());
-
-                    throw new UnknownAttributesException(
-                            this,
-                            "No implementation found for:",
-                            "No " + target.getName() + " implementation found for " + symbol,
-                            symbol,
-                            availableImplementations);
-                });
-    }
-
-    private Boolean findByPreferredSymbol(Descriptor<T> descriptor, String symbol) {
-        return preferredSymbol(descriptor).equalsIgnoreCase(symbol);
-    }
-
-    private Boolean findBySymbols(Descriptor<T> descriptor, String symbol, CNode node) {
-        return getSymbols(descriptor)
-                .find(actual -> actual.equalsIgnoreCase(symbol))
-                .map(actual -> {
-                    ObsoleteConfigurationMonitor.get()
-                            .record(
-                                    node,
-                                    "'" + symbol + "' is obsolete, please use '" + preferredSymbol(descriptor) + "'");
-                    return descriptorClass(descriptor);
-                })
-                .isDefined();
-    }
-
-    private Stream<String> getSymbols(Descriptor<T> descriptor) {
-        return Stream.ofAll(DescribableAttribute.getSymbols(descriptor, target, target));
+        final Symbols<T> symbols = symbols();
+        Descriptor<T> descriptor = symbols.byPreferredSymbol.get(symbol);
+        if (descriptor == null) {
+            descriptor = symbols.bySymbol.get(symbol);
+            if (descriptor != null) {
+                ObsoleteConfigurationMonitor.get()
+                        .record(
+                                config,
+                                "'" + symbol + "' is obsolete, please use '" + preferredSymbol(descriptor) + "'");
+            }
+        }
+        if (descriptor == null) {
+            List<String> availableImplementations = symbols.descriptors.stream()
+                    .map(this::preferredSymbol)
+                    .collect(Collectors.toList());
+
+            throw new UnknownAttributesException(
+                    this,
+                    "No implementation found for:",
+                    "No " + target.getName() + " implementation found for " + symbol,
+                    symbol,
+                    availableImplementations);
+        }
+        return Option.some(descriptor);
     }
 
     private String preferredSymbol(Descriptor<?> descriptor) {
-        return DescribableAttribute.getPreferredSymbol(descriptor, target, target);
-    }
-
-    private HashMap<String, Descriptor<T>> handleDuplicateSymbols(
-            HashMap<String, Descriptor<T>> r, Tuple2<String, Descriptor<T>> t) {
-        if (r.containsKey(t._1)) {
-            String message = String.format(
-                    "Found multiple implementations for symbol = %s: [%s, %s]. Please report to plugin maintainer.",
-                    t._1, r.get(t._1).get(), t._2);
-            LOGGER.warning(message);
-            return r;
-        } else {
-            return r.put(t);
-        }
+        final String symbol = symbols().preferredSymbols.get(descriptor);
+        return symbol != null ? symbol : DescribableAttribute.getPreferredSymbol(descriptor, target, target);
     }
 
     private Tuple2<String, Option<CNode>> preConfigure(CNode config, ConfigurationContext context) {
@@ -0,0 +1,20 @@
+package io.jenkins.plugins.casc.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * The configuration of a single root element applied.
+ */
+@Name("io.jenkins.plugins.casc.Apply")
+@Label("Apply")
+@Description("Apply the configuration of a root element")
+@Restricted(NoExternalUse.class)
+public final class ApplyEvent extends CascEvent {
+
+    @Label("Root Element")
+    public String root;
+}
@@ -0,0 +1,16 @@
+package io.jenkins.plugins.casc.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.StackTrace;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Base of Flight Recorder events emitted by the plugin, grouped under the same category.
+ * Events are only committed while a recording enables them, so they cost next to nothing otherwise.
+ */
+@Category({"Jenkins", "Configuration as Code"})
+@StackTrace(false)
+@Restricted(NoExternalUse.class)
+public abstract class CascEvent extends Event {}
@@ -0,0 +1,16 @@
+package io.jenkins.plugins.casc.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * A configuration checked against the running instance, without applying it.
+ */
+@Name("io.jenkins.plugins.casc.Check")
+@Label("Check")
+@Description("Check a configuration without applying it")
+@Restricted(NoExternalUse.class)
+public final class CheckEvent extends CascEvent {}
@@ -0,0 +1,141 @@
+package io.jenkins.plugins.casc.metrics;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.ExtensionList;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import jenkins.model.Jenkins;
+import net.sf.json.JSONObject;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Counters and cumulative wall time of the last configuration run, to find out where a slow reload spends its time.
+ *
+ * Configurators are nested, so time recorded for a root element or a configurator includes the time spent
+ * configuring its attributes.
+ * Checks run before applying a configuration are not recorded.
+ */
+@Extension
+@Restricted(NoExternalUse.class)
+public final class ConfigurationMetrics {
+
+    private final Map<String, Stat> roots = new ConcurrentHashMap<>();
+    private final Map<String, Stat> configure = new ConcurrentHashMap<>();
+    private final Map<String, Stat> setValue = new ConcurrentHashMap<>();
+    private final Map<String, Stat> save = new ConcurrentHashMap<>();
+    private final Map<String, Stat> secrets = new ConcurrentHashMap<>();
+    private volatile long started = System.currentTimeMillis();
+
+    /**
+     * @return metrics of the running instance, or metrics which are dropped when there is none, e.g. in unit tests
+     */
+    public static ConfigurationMetrics get() {
+        final Jenkins jenkins = Jenkins.getInstanceOrNull();
+        return jenkins != null ? ExtensionList.lookupSingleton(ConfigurationMetrics.class) : new ConfigurationMetrics();
+    }
+
+    /**
+     * Forget all recorded values, when a new configuration run starts.
+     */
+    public void reset() {
+        roots.clear();
+        configure.clear();
+        setValue.clear();
+        save.clear();
+        secrets.clear();
+        started = System.currentTimeMillis();
+    }
+
+    /**
+     * @param name root element name
+     * @param nanos time spent configuring the root element
+     */
+    public void root(@NonNull String name, long nanos) {
+        record(roots, name, nanos);
+    }
+
+    /**
+     * @param target configurator target
+     * @param nanos time spent building and configuring a single instance
+     */
+    public void configure(@NonNull Class<?> target, long nanos) {
+        record(configure, target.getName(), nanos);
+    }
+
+    /**
+     * @param target configurator target
+     * @param nanos time spent assigning a value to an attribute of an instance
+     */
+    public void setValue(@NonNull Class<?> target, long nanos) {
+        record(setValue, target.getName(), nanos);
+    }
+
+    /**
+     * @param target configurator target
+     * @param nanos time spent saving an instance once configured
+     */
+    public void save(@NonNull Class<?> target, long nanos) {
+        record(save, target.getName(), nanos);
+    }
+
+    /**
+     * @param source secret source implementation
+     * @param nanos time spent looking up a single secret
+     */
+    public void secret(@NonNull Class<?> source, long nanos) {
+        record(secrets, source.getName(), nanos);
+    }
+
+    private static void record(Map<String, Stat> stats, String key, long nanos) {
+        stats.computeIfAbsent(key, k -> new Stat()).add(nanos);
+    }
+
+    /**
+     * @return recorded values, configurators and secret sources being keyed by class name
+     */
+    @NonNull
+    public JSONObject toJSON() {
+        Map<String, JSONObject> configurators = new TreeMap<>();
+        put(configurators, "configure", configure);
+        put(configurators, "setValue", setValue);
+        put(configurators, "save", save);
+
+        return new JSONObject()
+                .element("since", started)
+                .element("roots", toJSON(roots))
+                .element("configurators", configurators)
+                .element("secrets", toJSON(secrets));
+    }
+
+    private static void put(Map<String, JSONObject> configurators, String name, Map<String, Stat> stats) {
+        stats.forEach((target, stat) ->
+                configurators.computeIfAbsent(target, k -> new JSONObject()).element(name, stat.toJSON()));
+    }
+
+    private static JSONObject toJSON(Map<String, Stat> stats) {
+        JSONObject json = new JSONObject();
+        new TreeMap<>(stats).forEach((key, stat) -> json.element(key, stat.toJSON()));
+        return json;
+    }
+
+    private static final class Stat {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        void add(long time) {
+            count.increment();
+            nanos.add(time);
+        }
+
+        JSONObject toJSON() {
+            return new JSONObject()
+                    .element("count", count.sum())
+                    .element("timeMillis", TimeUnit.NANOSECONDS.toMillis(nanos.sum()));
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package io.jenkins.plugins.casc.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * A configurator building and configuring a single instance.
+ */
+@Name("io.jenkins.plugins.casc.Configure")
+@Label("Configure")
+@Description("A configurator building and configuring a single instance")
+@Restricted(NoExternalUse.class)
+public final class ConfigureEvent extends CascEvent {
+
+    @Label("Target")
+    public String target;
+
+    @Label("Saved")
+    public boolean saved;
+}
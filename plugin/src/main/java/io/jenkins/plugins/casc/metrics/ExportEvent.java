@@ -0,0 +1,20 @@
+package io.jenkins.plugins.casc.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * The configuration of a root element, or of items, exported.
+ */
+@Name("io.jenkins.plugins.casc.Export")
+@Label("Export")
+@Description("Export the configuration of a root element or of items")
+@Restricted(NoExternalUse.class)
+public final class ExportEvent extends CascEvent {
+
+    @Label("Root Element")
+    public String root;
+}
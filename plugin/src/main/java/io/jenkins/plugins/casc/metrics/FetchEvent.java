@@ -0,0 +1,23 @@
+package io.jenkins.plugins.casc.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * A configuration source fetched by a {@link io.jenkins.plugins.casc.fetcher.CasCConfigFetcher}.
+ */
+@Name("io.jenkins.plugins.casc.Fetch")
+@Label("Fetch")
+@Description("Fetch a configuration source")
+@Restricted(NoExternalUse.class)
+public final class FetchEvent extends CascEvent {
+
+    @Label("Fetcher")
+    public String fetcher;
+
+    @Label("Source")
+    public String source;
+}
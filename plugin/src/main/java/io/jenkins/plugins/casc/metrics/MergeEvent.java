@@ -0,0 +1,23 @@
+package io.jenkins.plugins.casc.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * YAML sources read and merged into a single document, parsing included.
+ */
+@Name("io.jenkins.plugins.casc.Merge")
+@Label("Merge")
+@Description("Read and merge YAML configuration sources")
+@Restricted(NoExternalUse.class)
+public final class MergeEvent extends CascEvent {
+
+    @Label("Sources")
+    public int sources;
+
+    @Label("Merge Strategy")
+    public String strategy;
+}
@@ -0,0 +1,16 @@
+package io.jenkins.plugins.casc.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * The configuration model built from a merged YAML document.
+ */
+@Name("io.jenkins.plugins.casc.Model")
+@Label("Model")
+@Description("Build the configuration model from a YAML document")
+@Restricted(NoExternalUse.class)
+public final class ModelEvent extends CascEvent {}
@@ -0,0 +1,20 @@
+package io.jenkins.plugins.casc.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * A YAML source parsed into a document.
+ */
+@Name("io.jenkins.plugins.casc.Parse")
+@Label("Parse")
+@Description("Parse a YAML configuration source")
+@Restricted(NoExternalUse.class)
+public final class ParseEvent extends CascEvent {
+
+    @Label("Source")
+    public String source;
+}
@@ -0,0 +1,23 @@
+package io.jenkins.plugins.casc.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * A secret looked up from a {@link io.jenkins.plugins.casc.SecretSource}. The secret key is not recorded.
+ */
+@Name("io.jenkins.plugins.casc.SecretReveal")
+@Label("Secret Reveal")
+@Description("Look up a secret from a secret source")
+@Restricted(NoExternalUse.class)
+public final class SecretRevealEvent extends CascEvent {
+
+    @Label("Secret Source")
+    public String secretSource;
+
+    @Label("Found")
+    public boolean found;
+}
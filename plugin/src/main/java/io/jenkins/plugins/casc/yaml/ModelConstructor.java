@@ -1,14 +1,17 @@
 package io.jenkins.plugins.casc.yaml;
 
+import io.jenkins.plugins.casc.model.CNode;
 import io.jenkins.plugins.casc.model.Mapping;
 import io.jenkins.plugins.casc.model.Scalar;
 import io.jenkins.plugins.casc.model.Sequence;
 import io.jenkins.plugins.casc.model.Source;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.apache.commons.collections.map.AbstractMapDecorator;
-import org.apache.commons.lang3.ObjectUtils;
 import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.constructor.AbstractConstruct;
 import org.yaml.snakeyaml.constructor.Construct;
@@ -25,12 +28,19 @@ import org.yaml.snakeyaml.nodes.Tag;
  */
 class ModelConstructor extends CustomClassLoaderConstructor {
 
+    /**
+     * Values already put in a collection of the model, so those constructed once for an anchor and put again for an
+     * alias get copied, as configurators consume the model.
+     */
+    private final Set<Object> placed = Collections.newSetFromMap(new IdentityHashMap<>());
+
     public ModelConstructor(LoaderOptions loadingConfig) {
         super(Mapping.class, ModelConstructor.class.getClassLoader(), loadingConfig);
 
         this.yamlConstructors.put(Tag.BOOL, ConstructScalar);
         this.yamlConstructors.put(Tag.INT, ConstructScalar);
         this.yamlConstructors.put(Tag.STR, ConstructScalar);
+        this.yamlConstructors.put(StreamedSequence.TAG, ConstructStreamed);
     }
 
     private static final Construct ConstructScalar = new AbstractConstruct() {
@@ -41,6 +51,13 @@ class ModelConstructor extends CustomClassLoaderConstructor {
         }
     };
 
+    private static final Construct ConstructStreamed = new AbstractConstruct() {
+        @Override
+        public Object construct(Node node) {
+            return new StreamedSequence(((StreamedSequence.Placeholder) node).segment, getSource(node));
+        }
+    };
+
     private static Source getSource(Node node) {
         final Mark mark = node.getStartMark();
         return new Source(mark.getName(), mark.getLine() + 1);
@@ -63,7 +80,7 @@ class ModelConstructor extends CustomClassLoaderConstructor {
                 if (!(key instanceof Scalar)) {
                     throw new IllegalStateException("We only support scalar map keys");
                 }
-                Object scalar = ObjectUtils.clone(value);
+                Object scalar = place(value);
                 if (scalar instanceof Number) {
                     scalar = new Scalar(scalar.toString());
                 } else if (scalar instanceof Boolean) {
@@ -84,6 +101,18 @@ class ModelConstructor extends CustomClassLoaderConstructor {
     @Override
     protected void constructSequenceStep2(SequenceNode node, Collection collection) {
         ((Sequence) collection).setSource(getSource(node));
-        super.constructSequenceStep2(node, collection);
+        for (Node child : node.getValue()) {
+            collection.add(place(constructObject(child)));
+        }
+    }
+
+    /**
+     * As the model is constructed bottom-up, only values reused through aliases need a copy of their own.
+     */
+    private Object place(Object value) {
+        if (value instanceof CNode node && !placed.add(node)) {
+            return node.clone();
+        }
+        return value;
     }
 }
@@ -0,0 +1,203 @@
+package io.jenkins.plugins.casc.yaml;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import io.jenkins.plugins.casc.ConfiguratorException;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * What a source looked like when its document was composed, so items of a {@link StreamedSequence} read again later
+ * can be checked to come from the same content as the one which was checked.
+ *
+ * The content digest is recorded while the document is composed, and compared once each pass has read the whole
+ * source. Sources which are files are also checked for size and modification time before each pass, so a file
+ * replaced in between fails the pass before any item is read from it.
+ */
+final class SourceFingerprint {
+
+    private final YamlSource<?> source;
+
+    @CheckForNull
+    private final Path path;
+
+    @CheckForNull
+    private final BasicFileAttributes attributes;
+
+    @CheckForNull
+    private DigestReader recording;
+
+    @CheckForNull
+    private byte[] digest;
+
+    SourceFingerprint(YamlSource<?> source) {
+        this.source = source;
+        this.path = pathOf(source);
+        this.attributes = attributesOf(path);
+    }
+
+    /**
+     * @param reader reader the document is composed from
+     * @return reader to compose the document from instead, recording the digest of the content
+     */
+    Reader record(Reader reader) {
+        recording = new DigestReader(reader);
+        return recording;
+    }
+
+    /**
+     * Record the digest of the content, once the document has been composed.
+     */
+    void seal() throws IOException {
+        if (recording != null) {
+            digest = recording.finish();
+            recording = null;
+        }
+    }
+
+    /**
+     * @return reader to read items from again, which content is checked by {@link #verify(DigestReader)}
+     * @throws ConfiguratorException the source changed since the document was composed
+     */
+    DigestReader open() throws IOException, ConfiguratorException {
+        if (attributes != null) {
+            final BasicFileAttributes current = attributesOf(path);
+            if (current == null
+                    || current.size() != attributes.size()
+                    || !current.lastModifiedTime().equals(attributes.lastModifiedTime())) {
+                throw changed();
+            }
+        }
+        return new DigestReader(YamlUtils.reader(source));
+    }
+
+    /**
+     * @param reader reader returned by {@link #open()}, not fully read yet
+     * @throws ConfiguratorException the content read isn't the one the document was composed from
+     */
+    void verify(DigestReader reader) throws IOException, ConfiguratorException {
+        final byte[] read = reader.finish();
+        if (digest != null && !Arrays.equals(digest, read)) {
+            throw changed();
+        }
+    }
+
+    private ConfiguratorException changed() {
+        return new ConfiguratorException(
+                source + " changed since configuration was read from it, its items may not be the checked ones");
+    }
+
+    @CheckForNull
+    private static Path pathOf(YamlSource<?> source) {
+        final Object src = source.source;
+        if (src instanceof Path p) {
+            return p;
+        }
+        if (src instanceof String url && url.startsWith("file:")) {
+            try {
+                return Path.of(URI.create(url));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    @CheckForNull
+    private static BasicFileAttributes attributesOf(@CheckForNull Path path) {
+        if (path == null) {
+            return null;
+        }
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Computes the digest of the characters read through it.
+     */
+    static final class DigestReader extends FilterReader {
+
+        private final MessageDigest md;
+        private byte[] bytes = new byte[0];
+
+        DigestReader(Reader in) {
+            super(in);
+            try {
+                md = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int c = super.read();
+            if (c >= 0) {
+                md.update((byte) (c >> 8));
+                md.update((byte) c);
+            }
+            return c;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            final int n = super.read(cbuf, off, len);
+            if (n > 0) {
+                if (bytes.length < n * 2) {
+                    bytes = new byte[n * 2];
+                }
+                for (int i = 0; i < n; i++) {
+                    bytes[i * 2] = (byte) (cbuf[off + i] >> 8);
+                    bytes[i * 2 + 1] = (byte) cbuf[off + i];
+                }
+                md.update(bytes, 0, n * 2);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            if (n <= 0) {
+                return 0;
+            }
+            // skipped characters must be part of the digest as well
+            final char[] buffer = new char[(int) Math.min(n, 8192)];
+            long skipped = 0;
+            while (skipped < n) {
+                final int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+                if (read < 0) {
+                    break;
+                }
+                skipped += read;
+            }
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        /**
+         * Read the remaining content.
+         * @return digest of the whole content
+         */
+        byte[] finish() throws IOException {
+            final char[] buffer = new char[8192];
+            while (read(buffer, 0, buffer.length) >= 0) {
+                // digested while read
+            }
+            return md.digest();
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package io.jenkins.plugins.casc.yaml;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.jenkins.plugins.casc.ConfiguratorException;
+import io.jenkins.plugins.casc.fetcher.ResolvedYaml;
+import io.jenkins.plugins.casc.model.CNode;
+import io.jenkins.plugins.casc.model.Sequence;
+import io.jenkins.plugins.casc.model.Source;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.composer.Composer;
+import org.yaml.snakeyaml.error.Mark;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.DocumentEndEvent;
+import org.yaml.snakeyaml.events.DocumentStartEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.events.StreamEndEvent;
+import org.yaml.snakeyaml.events.StreamStartEvent;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.parser.Parser;
+import org.yaml.snakeyaml.parser.ParserImpl;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+/**
+ * A sequence of a root element which items are read from their YAML source one at a time, when iterated, rather than
+ * all held in memory, so configuration with huge generated sequences, such as {@code items}, can be applied with a
+ * bounded heap.
+ *
+ * Only used for root elements of a {@link io.jenkins.plugins.casc.RootElementConfigurator#isStreamable() streamable}
+ * configurator, when enabled with {@link io.jenkins.plugins.casc.ConfigurationContext#isYamlStreaming()}. Items may
+ * come from several sources, some of them already in memory, as sequences are merged from all sources.
+ */
+public final class StreamedSequence implements CNode {
+
+    /**
+     * Tag of the placeholder composed instead of a streamed sequence, until the model is constructed.
+     */
+    static final Tag TAG = new Tag("!casc/streamed");
+
+    /**
+     * Items already in memory, as {@link CNode}s, or {@link Segment}s of items to read.
+     */
+    private final List<Object> parts;
+
+    private final Source source;
+
+    StreamedSequence(@NonNull Segment segment, Source source) {
+        this.parts = List.of(segment);
+        this.source = source;
+    }
+
+    /**
+     * Flatten a sequence which has streamed sequences among its items, as merged from several sources.
+     */
+    StreamedSequence(@NonNull Sequence sequence) {
+        final List<Object> parts = new ArrayList<>();
+        for (CNode item : sequence) {
+            if (item instanceof StreamedSequence streamed) {
+                parts.addAll(streamed.parts);
+            } else {
+                parts.add(item);
+            }
+        }
+        this.parts = List.copyOf(parts);
+        this.source = sequence.getSource();
+    }
+
+    private StreamedSequence(List<Object> parts, Source source) {
+        this.parts = parts;
+        this.source = source;
+    }
+
+    /**
+     * Receives items of a sequence.
+     */
+    @FunctionalInterface
+    public interface ItemVisitor {
+
+        void visit(CNode item) throws ConfiguratorException;
+    }
+
+    /**
+     * Visit all items of a sequence, one at a time if streamed.
+     * @param node a {@link StreamedSequence} or any other sequence
+     * @param visitor called for every item, in order
+     */
+    public static void forEach(@NonNull CNode node, @NonNull ItemVisitor visitor) throws ConfiguratorException {
+        if (node instanceof StreamedSequence streamed) {
+            streamed.forEach(visitor);
+            return;
+        }
+        for (CNode item : node.asSequence()) {
+            visitor.visit(item);
+        }
+    }
+
+    private void forEach(ItemVisitor visitor) throws ConfiguratorException {
+        for (Object part : parts) {
+            if (part instanceof Segment segment) {
+                segment.forEach(visitor);
+            } else {
+                visitor.visit((CNode) part);
+            }
+        }
+    }
+
+    @Override
+    public Type getType() {
+        return Type.SEQUENCE;
+    }
+
+    /**
+     * Read all items in memory, for consumers which don't stream them.
+     */
+    @Override
+    public Sequence asSequence() throws ConfiguratorException {
+        final Sequence sequence = new Sequence();
+        forEach(sequence::add);
+        sequence.setSource(source);
+        return sequence;
+    }
+
+    @Override
+    public Source getSource() {
+        return source;
+    }
+
+    @Override
+    public StreamedSequence clone() {
+        final List<Object> copy = new ArrayList<>(parts.size());
+        for (Object part : parts) {
+            copy.add(part instanceof CNode node ? node.clone() : part);
+        }
+        return new StreamedSequence(List.copyOf(copy), source);
+    }
+
+    /**
+     * @return {@code true} if the source can be read again while configuration is being applied
+     */
+    static boolean canStream(YamlSource<?> source) {
+        final Object src = source.source;
+        return src instanceof Path
+                || src instanceof ResolvedYaml
+                || (src instanceof String url && url.startsWith("file:"));
+    }
+
+    /**
+     * Placeholder for a streamed sequence in the document composed from a source, as it is merged with others.
+     */
+    static final class Placeholder extends ScalarNode {
+
+        final Segment segment;
+
+        Placeholder(Segment segment, Mark startMark, Mark endMark) {
+            super(TAG, "", startMark, endMark, DumperOptions.ScalarStyle.PLAIN);
+            this.segment = segment;
+        }
+    }
+
+    /**
+     * Items of a root element sequence in a single source.
+     */
+    static final class Segment {
+
+        private final YamlSource<?> source;
+        private final String key;
+        private final LoaderOptions options;
+        private final SourceFingerprint fingerprint;
+
+        Segment(YamlSource<?> source, String key, LoaderOptions options, SourceFingerprint fingerprint) {
+            this.source = source;
+            this.key = key;
+            this.options = options;
+            this.fingerprint = fingerprint;
+        }
+
+        /**
+         * Read the items again, failing if the source no longer has the content the document was composed from.
+         * Items are checked, hashed and applied in separate passes, which must all see the same items.
+         */
+        void forEach(ItemVisitor visitor) throws ConfiguratorException {
+            try (SourceFingerprint.DigestReader reader = fingerprint.open()) {
+                final Parser parser = new ParserImpl(new StreamReaderWithSource(source, reader), options);
+                skipToSequence(parser);
+                while (!parser.checkEvent(Event.ID.SequenceEnd)) {
+                    final Node item = new Composer(new ItemParser(parser), new Resolver(), options).getSingleNode();
+                    visitor.visit(construct(item));
+                }
+                fingerprint.verify(reader);
+            } catch (IOException e) {
+                throw new ConfiguratorException("Failed to read " + source, e);
+            } catch (YAMLException e) {
+                throw new ConfiguratorException("Failed to read " + key + " from " + source, e);
+            }
+        }
+
+        /**
+         * Consume events up to the start of the sequence, skipping other root elements.
+         */
+        private void skipToSequence(Parser parser) throws ConfiguratorException {
+            expect(parser, Event.ID.StreamStart);
+            expect(parser, Event.ID.DocumentStart);
+            expect(parser, Event.ID.MappingStart);
+            while (!parser.checkEvent(Event.ID.MappingEnd)) {
+                final Event keyEvent = parser.getEvent();
+                if (keyEvent instanceof ScalarEvent scalar
+                        && key.equals(scalar.getValue())
+                        && parser.checkEvent(Event.ID.SequenceStart)) {
+                    parser.getEvent();
+                    return;
+                }
+                if (!keyEvent.is(Event.ID.Scalar)) {
+                    // complex keys aren't supported, but must be consumed all the same
+                    skipRemainder(parser, keyEvent);
+                }
+                skipRemainder(parser, parser.getEvent());
+            }
+            throw new ConfiguratorException(key + " not found in " + source);
+        }
+
+        private void expect(Parser parser, Event.ID id) throws ConfiguratorException {
+            final Event event = parser.getEvent();
+            if (!event.is(id)) {
+                throw new ConfiguratorException("Unexpected " + event + " reading " + key + " from " + source);
+            }
+        }
+
+        private CNode construct(Node item) throws ConfiguratorException {
+            if (!(item instanceof MappingNode)) {
+                final Mark mark = item.getStartMark();
+                throw new ConfiguratorException(
+                        "Item isn't a Mapping " + new Source(mark.getName(), mark.getLine() + 1));
+            }
+            return YamlUtils.construct(item, options);
+        }
+    }
+
+    /**
+     * Consume the remaining events of a node which first event has already been consumed.
+     */
+    static void skipRemainder(Parser parser, Event first) {
+        int depth = isStart(first) ? 1 : 0;
+        while (depth > 0) {
+            final Event event = parser.getEvent();
+            if (isStart(event)) {
+                depth++;
+            } else if (isEnd(event)) {
+                depth--;
+            }
+        }
+    }
+
+    static boolean isStart(Event event) {
+        return event.is(Event.ID.MappingStart) || event.is(Event.ID.SequenceStart);
+    }
+
+    static boolean isEnd(Event event) {
+        return event.is(Event.ID.MappingEnd) || event.is(Event.ID.SequenceEnd);
+    }
+
+    /**
+     * Presents the events of the next node of a parser as a single document stream, so it can be composed on its own.
+     */
+    private static final class ItemParser implements Parser {
+
+        private final Parser parser;
+        private Event next;
+        private int state;
+        private int depth;
+
+        ItemParser(Parser parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean checkEvent(Event.ID choice) {
+            final Event event = peekEvent();
+            return event != null && event.is(choice);
+        }
+
+        @Override
+        public Event peekEvent() {
+            if (next == null) {
+                next = produce();
+            }
+            return next;
+        }
+
+        @Override
+        public Event getEvent() {
+            final Event event = peekEvent();
+            next = null;
+            return event;
+        }
+
+        private Event produce() {
+            switch (state) {
+                case 0 -> {
+                    state = 1;
+                    return new StreamStartEvent(mark(), mark());
+                }
+                case 1 -> {
+                    state = 2;
+                    return new DocumentStartEvent(mark(), mark(), false, null, null);
+                }
+                case 2 -> {
+                    final Event event = parser.getEvent();
+                    if (isStart(event)) {
+                        depth++;
+                    } else if (isEnd(event)) {
+                        depth--;
+                    }
+                    if (depth == 0) {
+                        state = 3;
+                    }
+                    return event;
+                }
+                case 3 -> {
+                    state = 4;
+                    return new DocumentEndEvent(mark(), mark(), false);
+                }
+                case 4 -> {
+                    state = 5;
+                    return new StreamEndEvent(mark(), mark());
+                }
+                default -> {
+                    return null;
+                }
+            }
+        }
+
+        private Mark mark() {
+            return parser.peekEvent().getStartMark();
+        }
+    }
+}
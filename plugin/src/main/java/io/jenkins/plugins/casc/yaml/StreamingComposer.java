@@ -0,0 +1,143 @@
+package io.jenkins.plugins.casc.yaml;
+
+import io.jenkins.plugins.casc.model.Source;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.composer.Composer;
+import org.yaml.snakeyaml.error.Mark;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.NodeEvent;
+import org.yaml.snakeyaml.events.SequenceStartEvent;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.parser.Parser;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+/**
+ * Composes a document without the items of streamable root sequences, which are only checked for syntax and replaced
+ * by a {@link StreamedSequence.Placeholder}, to be read again one at a time while configuration is applied.
+ * Sequences which items define or refer to anchors can't be, so the document must then be composed as a whole.
+ */
+class StreamingComposer extends Composer {
+
+    private final YamlSource<?> source;
+    private final LoaderOptions options;
+    private final Set<String> streamable;
+    private final SourceFingerprint fingerprint;
+
+    /**
+     * Depth of the collection being composed, the root mapping being at depth 1.
+     */
+    private int depth;
+
+    StreamingComposer(
+            Parser parser,
+            Resolver resolver,
+            LoaderOptions options,
+            YamlSource<?> source,
+            Set<String> streamable,
+            SourceFingerprint fingerprint) {
+        super(parser, resolver, options);
+        this.source = source;
+        this.options = options;
+        this.streamable = streamable;
+        this.fingerprint = fingerprint;
+    }
+
+    @Override
+    protected Node composeSequenceNode(String anchor) {
+        depth++;
+        try {
+            return super.composeSequenceNode(anchor);
+        } finally {
+            depth--;
+        }
+    }
+
+    @Override
+    protected Node composeMappingNode(String anchor) {
+        depth++;
+        try {
+            return super.composeMappingNode(anchor);
+        } finally {
+            depth--;
+        }
+    }
+
+    @Override
+    protected void composeMappingChildren(List<NodeTuple> children, MappingNode node) {
+        final Node key = composeKeyNode(node);
+        if (depth == 1 && key instanceof ScalarNode scalar && isStreamable(scalar.getValue())) {
+            // an anchored sequence may be referred to as a whole
+            if (parser.peekEvent() instanceof SequenceStartEvent start && start.getAnchor() == null) {
+                children.add(new NodeTuple(key, skipSequence(scalar.getValue())));
+                return;
+            }
+        }
+        children.add(new NodeTuple(key, composeValueNode(node)));
+    }
+
+    private boolean isStreamable(String key) {
+        for (String name : streamable) {
+            if (name.equalsIgnoreCase(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Consume the events of a sequence without composing its items.
+     * @return a sequence with a single placeholder item, so it is merged with sequences of other sources
+     * @throws NotStreamable if items define or refer to anchors, as they can't be read one at a time
+     */
+    private Node skipSequence(String key) {
+        final SequenceStartEvent start = (SequenceStartEvent) parser.getEvent();
+        int level = 0;
+        Event event = parser.getEvent();
+        while (level > 0 || !event.is(Event.ID.SequenceEnd)) {
+            if (event instanceof AliasEvent alias) {
+                // may be defined in another item, or outside of the sequence
+                throw new NotStreamable(key + " refers to anchor " + alias.getAnchor() + " at " + source(event));
+            }
+            if (event instanceof NodeEvent node && node.getAnchor() != null) {
+                // may be referred to by another item, or outside of the sequence
+                throw new NotStreamable(key + " defines anchor " + node.getAnchor() + " at " + source(event));
+            }
+            if (StreamedSequence.isStart(event)) {
+                level++;
+            } else if (StreamedSequence.isEnd(event)) {
+                level--;
+            }
+            event = parser.getEvent();
+        }
+        final Mark end = event.getEndMark();
+
+        final StreamedSequence.Segment segment = new StreamedSequence.Segment(source, key, options, fingerprint);
+        final List<Node> items = new ArrayList<>();
+        items.add(new StreamedSequence.Placeholder(segment, start.getStartMark(), end));
+        return new SequenceNode(Tag.SEQ, true, items, start.getStartMark(), end, start.getFlowStyle());
+    }
+
+    private static Source source(Event event) {
+        final Mark mark = event.getStartMark();
+        return new Source(mark.getName(), mark.getLine() + 1);
+    }
+
+    /**
+     * Thrown when a document can't be streamed, so it must be composed as a whole.
+     */
+    static final class NotStreamable extends RuntimeException {
+
+        NotStreamable(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
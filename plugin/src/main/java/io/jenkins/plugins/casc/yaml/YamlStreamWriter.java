@@ -0,0 +1,134 @@
+package io.jenkins.plugins.casc.yaml;
+
+import static org.yaml.snakeyaml.DumperOptions.FlowStyle.BLOCK;
+import static org.yaml.snakeyaml.DumperOptions.ScalarStyle.PLAIN;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.emitter.Emitter;
+import org.yaml.snakeyaml.events.DocumentEndEvent;
+import org.yaml.snakeyaml.events.DocumentStartEvent;
+import org.yaml.snakeyaml.events.ImplicitTuple;
+import org.yaml.snakeyaml.events.MappingEndEvent;
+import org.yaml.snakeyaml.events.MappingStartEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.events.SequenceEndEvent;
+import org.yaml.snakeyaml.events.SequenceStartEvent;
+import org.yaml.snakeyaml.events.StreamEndEvent;
+import org.yaml.snakeyaml.events.StreamStartEvent;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+/**
+ * Writes a single YAML document incrementally, so large collections can be exported
+ * without building the whole {@link Node} tree in memory first.
+ *
+ * Callers open mappings and sequences explicitly and write complete sub-trees with {@link #write(Node)}.
+ * The output uses the same dumper options as {@code ConfigurationAsCode#serializeYamlNode}.
+ */
+@Restricted(NoExternalUse.class)
+public class YamlStreamWriter implements Closeable {
+
+    private final Emitter emitter;
+    private final Resolver resolver = new Resolver();
+    private boolean closed;
+
+    public YamlStreamWriter(Writer writer) throws IOException {
+        this.emitter = new Emitter(writer, dumperOptions());
+        emitter.emit(new StreamStartEvent(null, null));
+        emitter.emit(new DocumentStartEvent(null, null, false, null, null));
+    }
+
+    public static DumperOptions dumperOptions() {
+        DumperOptions options = new DumperOptions();
+        options.setDefaultFlowStyle(BLOCK);
+        options.setDefaultScalarStyle(PLAIN);
+        options.setSplitLines(true);
+        options.setPrettyFlow(true);
+        return options;
+    }
+
+    public YamlStreamWriter startMapping() throws IOException {
+        emitter.emit(new MappingStartEvent(null, null, true, null, null, BLOCK));
+        return this;
+    }
+
+    public YamlStreamWriter endMapping() throws IOException {
+        emitter.emit(new MappingEndEvent(null, null));
+        return this;
+    }
+
+    public YamlStreamWriter startSequence() throws IOException {
+        emitter.emit(new SequenceStartEvent(null, null, true, null, null, BLOCK));
+        return this;
+    }
+
+    public YamlStreamWriter endSequence() throws IOException {
+        emitter.emit(new SequenceEndEvent(null, null));
+        return this;
+    }
+
+    /**
+     * Write a plain mapping key. Must be followed by a value, either a {@link #write(Node)} or a nested collection.
+     */
+    public YamlStreamWriter key(String key) throws IOException {
+        emitter.emit(new ScalarEvent(null, null, new ImplicitTuple(true, false), key, null, null, PLAIN));
+        return this;
+    }
+
+    /**
+     * Write a complete node tree at the current position.
+     */
+    public YamlStreamWriter write(Node node) throws IOException {
+        if (node.getNodeId() == NodeId.scalar) {
+            ScalarNode scalar = (ScalarNode) node;
+            String detected = resolver.resolve(NodeId.scalar, scalar.getValue(), true).getValue();
+            String defaulted = resolver.resolve(NodeId.scalar, scalar.getValue(), false).getValue();
+            String tag = node.getTag().getValue();
+            ImplicitTuple implicit = new ImplicitTuple(tag.equals(detected), tag.equals(defaulted));
+            emitter.emit(new ScalarEvent(null, tag, implicit, scalar.getValue(), null, null, scalar.getScalarStyle()));
+        } else if (node.getNodeId() == NodeId.sequence) {
+            SequenceNode sequence = (SequenceNode) node;
+            boolean implicit = node.getTag().equals(resolver.resolve(NodeId.sequence, null, true));
+            emitter.emit(new SequenceStartEvent(
+                    null, node.getTag().getValue(), implicit, null, null, sequence.getFlowStyle()));
+            for (Node item : sequence.getValue()) {
+                write(item);
+            }
+            emitter.emit(new SequenceEndEvent(null, null));
+        } else {
+            MappingNode mapping = (MappingNode) node;
+            boolean implicit = node.getTag().equals(resolver.resolve(NodeId.mapping, null, true));
+            emitter.emit(new MappingStartEvent(
+                    null, node.getTag().getValue(), implicit, null, null, mapping.getFlowStyle()));
+            for (NodeTuple tuple : mapping.getValue()) {
+                write(tuple.getKeyNode());
+                write(tuple.getValueNode());
+            }
+            emitter.emit(new MappingEndEvent(null, null));
+        }
+        return this;
+    }
+
+    /**
+     * Ends the document and flushes the underlying writer. The writer itself is not closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        emitter.emit(new DocumentEndEvent(null, null, false));
+        emitter.emit(new StreamEndEvent(null, null));
+    }
+}
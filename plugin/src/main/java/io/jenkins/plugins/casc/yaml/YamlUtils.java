@@ -5,8 +5,14 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import io.jenkins.plugins.casc.ConfigurationAsCode;
 import io.jenkins.plugins.casc.ConfigurationContext;
 import io.jenkins.plugins.casc.ConfiguratorException;
+import io.jenkins.plugins.casc.RootElementConfigurator;
 import io.jenkins.plugins.casc.fetcher.ResolvedYaml;
+import io.jenkins.plugins.casc.metrics.MergeEvent;
+import io.jenkins.plugins.casc.metrics.ModelEvent;
+import io.jenkins.plugins.casc.metrics.ParseEvent;
+import io.jenkins.plugins.casc.model.CNode;
 import io.jenkins.plugins.casc.model.Mapping;
+import io.jenkins.plugins.casc.model.Sequence;
 import jakarta.servlet.http.HttpServletRequest;
 import java.io.IOException;
 import java.io.InputStream;
@@ -16,7 +22,11 @@ import java.net.URI;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.composer.Composer;
@@ -36,19 +46,29 @@ public final class YamlUtils {
     public static Node merge(List<YamlSource> sources, ConfigurationContext context) throws ConfiguratorException {
         Node root = null;
         MergeStrategy mergeStrategy = MergeStrategyFactory.getMergeStrategyOrDefault(context.getMergeStrategy());
-        for (YamlSource<?> source : sources) {
-            try (Reader reader = reader(source)) {
-                final Node node = read(source, reader, context);
+        final MergeEvent event = new MergeEvent();
+        event.begin();
+        try {
+            for (YamlSource<?> source : sources) {
+                try (Reader reader = reader(source)) {
+                    final Node node = read(source, reader, context);
 
-                if (root == null) {
-                    root = node;
-                } else {
-                    if (node != null) {
-                        mergeStrategy.merge(root, node, source.toString());
+                    if (root == null) {
+                        root = node;
+                    } else {
+                        if (node != null) {
+                            mergeStrategy.merge(root, node, source.toString());
+                        }
                     }
+                } catch (IOException io) {
+                    throw new ConfiguratorException("Failed to read " + source, io);
                 }
-            } catch (IOException io) {
-                throw new ConfiguratorException("Failed to read " + source, io);
+            }
+        } finally {
+            if (event.shouldCommit()) {
+                event.sources = sources.size();
+                event.strategy = mergeStrategy.getName();
+                event.commit();
             }
         }
 
@@ -59,12 +79,33 @@ public final class YamlUtils {
         LoaderOptions loaderOptions = new LoaderOptions();
         loaderOptions.setCodePointLimit(context.getYamlCodePointLimit());
         loaderOptions.setMaxAliasesForCollections(context.getYamlMaxAliasesForCollections());
-        Composer composer = new Composer(
-                new ParserImpl(new StreamReaderWithSource(source, reader), loaderOptions),
-                new Resolver(),
-                loaderOptions);
+        // items of streamed sequences are read again later, from the same content
+        final SourceFingerprint fingerprint =
+                context.isYamlStreaming() && StreamedSequence.canStream(source) ? new SourceFingerprint(source) : null;
+        final Reader input = fingerprint != null ? fingerprint.record(reader) : reader;
+        final ParserImpl parser = new ParserImpl(new StreamReaderWithSource(source, input), loaderOptions);
+        Composer composer = fingerprint != null
+                ? new StreamingComposer(parser, new Resolver(), loaderOptions, source, streamableRoots(), fingerprint)
+                : new Composer(parser, new Resolver(), loaderOptions);
+        final ParseEvent event = new ParseEvent();
+        event.begin();
         try {
-            return composer.getSingleNode();
+            try {
+                final Node node = composer.getSingleNode();
+                if (fingerprint != null) {
+                    fingerprint.seal();
+                }
+                return node;
+            } catch (StreamingComposer.NotStreamable e) {
+                LOGGER.log(Level.INFO, "Reading {0} at once rather than streaming it, as {1}", new Object[] {
+                    source, e.getMessage()
+                });
+                // the source can be read again, as it could be streamed
+                try (Reader again = reader(source)) {
+                    final ParserImpl full = new ParserImpl(new StreamReaderWithSource(source, again), loaderOptions);
+                    return new Composer(full, new Resolver(), loaderOptions).getSingleNode();
+                }
+            }
         } catch (YAMLException e) {
             if (e.getMessage().startsWith("Number of aliases for non-scalar nodes exceeds the specified max")) {
                 throw new ConfiguratorException(String.format(
@@ -74,7 +115,25 @@ public final class YamlUtils {
                         ConfigurationContext.CASC_YAML_MAX_ALIASES_PROPERTY));
             }
             throw e;
+        } finally {
+            if (event.shouldCommit()) {
+                event.source = source.toString();
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * @return names of root elements which sequences can be read one item at a time
+     */
+    private static Set<String> streamableRoots() {
+        final Set<String> names = new HashSet<>();
+        for (RootElementConfigurator<?> configurator : RootElementConfigurator.all()) {
+            if (configurator.isStreamable()) {
+                names.add(configurator.getName());
+            }
         }
+        return names;
     }
 
     public static Reader reader(YamlSource<?> source) throws IOException {
@@ -117,6 +176,29 @@ public final class YamlUtils {
         final LoaderOptions loaderOptions = new LoaderOptions();
         loaderOptions.setMaxAliasesForCollections(context.getYamlMaxAliasesForCollections());
         loaderOptions.setCodePointLimit(context.getYamlCodePointLimit());
+        final ModelEvent event = new ModelEvent();
+        event.begin();
+        try {
+            final Mapping mapping = construct(node, loaderOptions);
+            for (Map.Entry<String, CNode> entry : mapping.entrySet()) {
+                // items of other sources may have been merged with streamed ones
+                if (entry.getValue() instanceof Sequence sequence
+                        && sequence.stream().anyMatch(StreamedSequence.class::isInstance)) {
+                    entry.setValue(new StreamedSequence(sequence));
+                }
+            }
+            return mapping;
+        } finally {
+            if (event.shouldCommit()) {
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Construct configuration-as-code model from a snakeyaml mapping Node
+     */
+    static Mapping construct(Node node, LoaderOptions loaderOptions) {
         final ModelConstructor constructor = new ModelConstructor(loaderOptions);
         constructor.setComposer(
                 new Composer(
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import hudson.util.Secret;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.junit.jupiter.api.AfterEach;
@@ -230,4 +231,17 @@ public class AttributeTest {
         assertFalse(firstUnknown);
         assertFalse(secondUnknown, "Subsequent calls should return the same fallback FALSE result");
     }
+
+    @Test
+    void multipleValuesAreComparedRegardlessOfOrder() throws Exception {
+        Attribute<List<String>, Object> attribute =
+                new Attribute<List<String>, Object>("values", String.class).multiple(true).getter(v -> v);
+
+        assertTrue(attribute.equals(List.of("a", "b", "b"), List.of("a", "b", "b")));
+        assertTrue(attribute.equals(List.of("a", "b", "b"), List.of("b", "a", "b")));
+        assertFalse(attribute.equals(List.of("a", "b", "b"), List.of("a", "a", "b")));
+        assertFalse(attribute.equals(List.of("a", "b"), List.of("a", "b", "b")));
+        assertTrue(attribute.hasValue(List.of("a", "b"), List.of("b", "a")));
+        assertFalse(attribute.hasValue(List.of("a", "b"), null));
+    }
 }
@@ -5,6 +5,7 @@ import static org.hamcrest.collection.IsEmptyCollection.empty;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import hudson.util.PersistedList;
@@ -12,12 +13,14 @@ import io.jenkins.plugins.casc.model.Mapping;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import org.junit.Test;
 import org.kohsuke.accmod.Restricted;
@@ -522,4 +525,39 @@ public class BaseConfiguratorTest {
 
         assertEquals("Should upgrade bestType and resolve to the more specific Animal setter", setAnimal, best);
     }
+
+    @Test
+    public void testAttributesAreDescribedOncePerContext() {
+        AtomicInteger describes = new AtomicInteger();
+        DummyConfigurator configurator = new DummyConfigurator() {
+            @Override
+            public Set<Attribute<DummyTarget, ?>> describe() {
+                describes.incrementAndGet();
+                return super.describe();
+            }
+        };
+        ConfigurationContext context = new ConfigurationContext(null);
+
+        assertSame(context.describe(configurator), context.describe(configurator));
+        assertSame(context.getAttributes(configurator), context.getAttributes(configurator));
+        assertEquals("Each of describe() and getAttributes() should be computed once", 2, describes.get());
+        assertEquals(27, context.describe(configurator).size());
+    }
+
+    @Test
+    public void testAttributesAreDescribedPerConfiguratorInstance() {
+        DummyConfigurator configurator = new DummyConfigurator();
+        DummyConfigurator restricted = new DummyConfigurator() {
+            @Override
+            protected Set<String> exclusions() {
+                return new HashSet<>(Set.of("primitiveBoolean"));
+            }
+        };
+        ConfigurationContext context = new ConfigurationContext(null);
+
+        assertEquals("Both configurators have the same target", configurator, restricted);
+        assertEquals(27, context.describe(configurator).size());
+        assertEquals(26, context.describe(restricted).size());
+        assertEquals(26, context.getAttributes(restricted).size());
+    }
 }
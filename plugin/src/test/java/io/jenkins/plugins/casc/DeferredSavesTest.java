@@ -0,0 +1,79 @@
+package io.jenkins.plugins.casc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import hudson.model.Saveable;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class DeferredSavesTest {
+
+    @Test
+    void eachObjectIsSavedOnce() throws Exception {
+        CountingSaveable first = new CountingSaveable();
+        CountingSaveable second = new CountingSaveable();
+
+        DeferredSaves saves = new DeferredSaves();
+        saves.add(first, Object.class);
+        saves.add(second, Object.class);
+        saves.add(first, Object.class);
+        assertEquals(2, saves.size());
+
+        saves.flush();
+        assertEquals(1, first.saves.get());
+        assertEquals(1, second.saves.get());
+        assertEquals(0, saves.size());
+    }
+
+    @Test
+    void otherObjectsAreSavedWhenOneFails() {
+        CountingSaveable saved = new CountingSaveable();
+
+        DeferredSaves saves = new DeferredSaves();
+        saves.add(
+                () -> {
+                    throw new IOException("disk full");
+                },
+                Object.class);
+        saves.add(saved, Object.class);
+
+        assertThrows(ConfiguratorException.class, saves::flush);
+        assertEquals(1, saved.saves.get());
+    }
+
+    @Test
+    void objectsAreSavedOneAfterTheOtherByDefault() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger concurrent = new AtomicInteger();
+
+        DeferredSaves saves = new DeferredSaves();
+        for (int i = 0; i < 8; i++) {
+            saves.add(
+                    () -> {
+                        concurrent.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        try {
+                            Thread.sleep(5);
+                        } catch (InterruptedException e) {
+                            throw new IOException(e);
+                        } finally {
+                            running.decrementAndGet();
+                        }
+                    },
+                    Object.class);
+        }
+
+        saves.flush();
+        assertEquals(1, concurrent.get());
+    }
+
+    private static class CountingSaveable implements Saveable {
+        private final AtomicInteger saves = new AtomicInteger();
+
+        @Override
+        public void save() {
+            saves.incrementAndGet();
+        }
+    }
+}
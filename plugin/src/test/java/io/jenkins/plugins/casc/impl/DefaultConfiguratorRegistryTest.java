@@ -12,16 +12,21 @@ import io.jenkins.plugins.casc.impl.configurators.PrimitiveConfigurator;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Level;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.LoggerRule;
 
 public class DefaultConfiguratorRegistryTest {
 
     @Rule
     public JenkinsRule j = new JenkinsRule();
 
+    @Rule
+    public LoggerRule logging = new LoggerRule().record(DefaultConfiguratorRegistry.class, Level.WARNING).capture(10);
+
     private DefaultConfiguratorRegistry registry;
 
     @Before
@@ -42,6 +47,8 @@ public class DefaultConfiguratorRegistryTest {
 
     public static class StringList extends ArrayList<String> {}
 
+    public static class NotConfigurable {}
+
     private Type getTypeOf(String fieldName) throws NoSuchFieldException {
         return DummyTarget.class.getDeclaredField(fieldName).getGenericType();
     }
@@ -109,4 +116,17 @@ public class DefaultConfiguratorRegistryTest {
 
         assertNull("Unbounded wildcards resolve to Object and should safely return null", configurator);
     }
+
+    @Test
+    public void shouldCacheAndWarnOnceForUnsupportedTypes() {
+        assertNull(registry.lookup(NotConfigurable.class));
+        assertNull(registry.lookup(NotConfigurable.class));
+
+        assertTrue(registry.getUnsupportedTypes().contains(NotConfigurable.class.getTypeName()));
+        assertEquals(
+                1,
+                logging.getMessages().stream()
+                        .filter(message -> message.contains(NotConfigurable.class.getTypeName()))
+                        .count());
+    }
 }
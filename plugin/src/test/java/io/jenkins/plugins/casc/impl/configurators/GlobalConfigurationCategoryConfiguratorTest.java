@@ -0,0 +1,64 @@
+package io.jenkins.plugins.casc.impl.configurators;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+
+import hudson.ExtensionList;
+import hudson.model.Descriptor;
+import io.jenkins.plugins.casc.Attribute;
+import io.jenkins.plugins.casc.ConfigurationContext;
+import io.jenkins.plugins.casc.ConfiguratorRegistry;
+import java.util.Set;
+import java.util.stream.Collectors;
+import jenkins.model.GlobalConfiguration;
+import jenkins.model.GlobalConfigurationCategory;
+import org.jenkinsci.Symbol;
+import org.junit.Rule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.kohsuke.stapler.DataBoundSetter;
+
+public class GlobalConfigurationCategoryConfiguratorTest {
+
+    @Rule
+    public JenkinsRule j = new JenkinsRule();
+
+    @Test
+    public void descriptorsAreRefreshedWhenDescriptorListChanges() throws Exception {
+        GlobalConfigurationCategoryConfigurator configurator = new GlobalConfigurationCategoryConfigurator(
+                GlobalConfigurationCategory.get(GlobalConfigurationCategory.Unclassified.class));
+        ConfigurationContext context = new ConfigurationContext(ConfiguratorRegistry.get());
+        assertThat(names(configurator), not(hasItem("lateConfig")));
+
+        LateConfig config = new LateConfig();
+        config.setMessage("hello");
+        ExtensionList.lookup(Descriptor.class).add(config);
+
+        assertThat(names(configurator), hasItem("lateConfig"));
+        assertThat(
+                configurator
+                        .describe(configurator.getTargetComponent(context), context)
+                        .asMapping()
+                        .keySet(),
+                hasItem("lateConfig"));
+    }
+
+    private static Set<String> names(GlobalConfigurationCategoryConfigurator configurator) {
+        return configurator.describe().stream().map(Attribute::getName).collect(Collectors.toSet());
+    }
+
+    @Symbol("lateConfig")
+    public static class LateConfig extends GlobalConfiguration {
+        private String message;
+
+        public String getMessage() {
+            return message;
+        }
+
+        @DataBoundSetter
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
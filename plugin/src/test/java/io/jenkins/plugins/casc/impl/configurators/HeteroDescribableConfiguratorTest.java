@@ -2,6 +2,8 @@ package io.jenkins.plugins.casc.impl.configurators;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
@@ -79,6 +81,37 @@ public class HeteroDescribableConfiguratorTest {
         assertThat(errorMessage, containsString("manual"));
     }
 
+    @Test
+    @SuppressWarnings("deprecation")
+    public void symbolIndexIsRefreshedWhenDescriptorsChange() {
+        HeteroDescribableConfigurator<SecurityRealm> configurator =
+                new HeteroDescribableConfigurator<>(SecurityRealm.class);
+        assertTrue(configurator.getImplementors().containsKey("dummyOic"));
+        assertFalse(configurator.getImplementors().containsKey("lateRealm"));
+
+        // also registers the descriptor in the global descriptor list, which is what we listen to
+        j.jenkins.getDescriptorList(SecurityRealm.class).add(new LateSecurityRealm.DescriptorImpl());
+
+        assertEquals(LateSecurityRealm.class, configurator.getImplementors().get("lateRealm"));
+    }
+
+    public static class LateSecurityRealm extends SecurityRealm {
+        @DataBoundConstructor
+        public LateSecurityRealm() {}
+
+        @Override
+        public SecurityComponents createSecurityComponents() {
+            return new SecurityComponents();
+        }
+
+        @Symbol("lateRealm")
+        public static class DescriptorImpl extends Descriptor<SecurityRealm> {
+            public DescriptorImpl() {
+                super(LateSecurityRealm.class);
+            }
+        }
+    }
+
     public static class DummySecurityRealm extends SecurityRealm {
         private final DummyServerConfiguration serverConfiguration;
 
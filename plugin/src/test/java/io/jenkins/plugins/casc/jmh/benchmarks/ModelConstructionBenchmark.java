@@ -0,0 +1,82 @@
+package io.jenkins.plugins.casc.jmh.benchmarks;
+
+import io.jenkins.plugins.casc.ConfigurationContext;
+import io.jenkins.plugins.casc.ConfiguratorException;
+import io.jenkins.plugins.casc.ConfiguratorRegistry;
+import io.jenkins.plugins.casc.yaml.YamlSource;
+import io.jenkins.plugins.casc.yaml.YamlUtils;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import jenkins.benchmark.jmh.JmhBenchmark;
+import jenkins.benchmark.jmh.JmhBenchmarkState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.Blackhole;
+
+@JmhBenchmark
+@BenchmarkMode(Mode.Throughput)
+public class ModelConstructionBenchmark {
+    public static class JenkinsState extends JmhBenchmarkState {
+        private ConfigurationContext context = null;
+        private byte[] deeplyNested = null;
+        private byte[] aliasHeavy = null;
+
+        @Override
+        public void setup() {
+            ConfiguratorRegistry registry = ConfiguratorRegistry.get();
+            context = new ConfigurationContext(registry);
+            deeplyNested = deeplyNested(40, 10);
+            aliasHeavy = aliasHeavy(40, 100);
+        }
+
+        /**
+         * Nested mappings, with a few scalars at every level, as the default nesting depth limit is 50.
+         */
+        private static byte[] deeplyNested(int depth, int scalars) {
+            StringBuilder yaml = new StringBuilder("x-nested:\n");
+            String indent = "  ";
+            for (int level = 0; level < depth; level++) {
+                for (int i = 0; i < scalars; i++) {
+                    yaml.append(indent).append("key").append(i).append(": value").append(i).append('\n');
+                }
+                yaml.append(indent).append("level").append(level).append(":\n");
+                indent += "  ";
+            }
+            yaml.append(indent).append("leaf: value\n");
+            return yaml.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        /**
+         * A mapping referred to by many aliases, as the default limit of aliases for collections is 50.
+         */
+        private static byte[] aliasHeavy(int aliases, int entries) {
+            StringBuilder yaml = new StringBuilder("x-anchor: &anchor\n");
+            for (int i = 0; i < entries; i++) {
+                yaml.append("  entry").append(i).append(":\n");
+                yaml.append("    name: name").append(i).append('\n');
+                yaml.append("    values: [a, b, c]\n");
+            }
+            yaml.append("x-aliases:\n");
+            for (int i = 0; i < aliases; i++) {
+                yaml.append("  - *anchor\n");
+            }
+            return yaml.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        private Object load(byte[] yaml) throws ConfiguratorException {
+            return YamlUtils.loadFrom(List.of(YamlSource.of(new ByteArrayInputStream(yaml))), context);
+        }
+    }
+
+    @Benchmark
+    public void deeplyNested(JenkinsState state, Blackhole blackhole) throws ConfiguratorException {
+        blackhole.consume(state.load(state.deeplyNested));
+    }
+
+    @Benchmark
+    public void aliasHeavy(JenkinsState state, Blackhole blackhole) throws ConfiguratorException {
+        blackhole.consume(state.load(state.aliasHeavy));
+    }
+}
@@ -12,8 +12,11 @@ import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import com.google.common.collect.ImmutableMap;
+import hudson.model.Item;
 import java.util.Map;
 import jenkins.model.Jenkins;
+import org.htmlunit.HttpMethod;
+import org.htmlunit.WebRequest;
 import org.htmlunit.html.HtmlPage;
 import org.junit.jupiter.api.Test;
 import org.jvnet.hudson.test.JenkinsRule;
@@ -41,6 +44,24 @@ class PermissionsTest {
         assertCannotAccessPage(webClient, RELATIVE_PATH_MANAGE_PAGE);
     }
 
+    @Test
+    void exportItemsRequiresSystemRead(JenkinsRule j) throws Exception {
+        final String READER = "reader";
+        j.jenkins.setSecurityRealm(j.createDummySecurityRealm());
+        j.jenkins.setAuthorizationStrategy(new MockAuthorizationStrategy()
+                .grant(Jenkins.READ, Item.READ, Item.EXTENDED_READ)
+                .everywhere()
+                .to(READER));
+        j.createFreeStyleProject("job");
+
+        JenkinsRule.WebClient webClient = j.createWebClient().withThrowExceptionOnFailingStatusCode(false);
+
+        webClient.login(READER);
+        WebRequest request = new WebRequest(
+                webClient.createCrumbedUrl(RELATIVE_PATH_CASC_PAGE + "/exportItems"), HttpMethod.POST);
+        assertEquals(HTTP_FORBIDDEN, webClient.getPage(request).getWebResponse().getStatusCode());
+    }
+
     @Test
     void checkPermissionsForSystemReader(JenkinsRule j) throws Exception {
         final String SYSTEM_READER = "systemReader";
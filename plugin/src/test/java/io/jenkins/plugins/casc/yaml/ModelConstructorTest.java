@@ -0,0 +1,72 @@
+package io.jenkins.plugins.casc.yaml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.jenkins.plugins.casc.model.Mapping;
+import io.jenkins.plugins.casc.model.Sequence;
+import java.io.StringReader;
+import org.junit.jupiter.api.Test;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+
+class ModelConstructorTest {
+
+    @Test
+    void aliasedValuesAreCopied() throws Exception {
+        final Mapping root = construct(
+                """
+                x-shared: &shared
+                  message: hello
+                first: *shared
+                second:
+                  - *shared
+                  - *shared
+                merged:
+                  <<: *shared
+                """);
+
+        final Mapping shared = root.get("x-shared").asMapping();
+        final Mapping first = root.get("first").asMapping();
+        final Sequence second = root.get("second").asSequence();
+        assertNotSame(shared, first);
+        assertNotSame(second.get(0), second.get(1));
+
+        // consuming one of them doesn't affect the others
+        assertEquals("hello", first.getScalarValue("message"));
+        assertNull(first.get("message"));
+        assertEquals("hello", shared.getScalarValue("message"));
+        assertEquals("hello", second.get(0).asMapping().getScalarValue("message"));
+        assertEquals("hello", second.get(1).asMapping().getScalarValue("message"));
+        assertEquals("hello", root.get("merged").asMapping().getScalarValue("message"));
+    }
+
+    @Test
+    void nestedValuesAreKept() throws Exception {
+        final Mapping root = construct(
+                """
+                a:
+                  b:
+                    c:
+                      - d: value
+                """);
+
+        assertEquals(
+                "value",
+                root.get("a")
+                        .asMapping()
+                        .get("b")
+                        .asMapping()
+                        .get("c")
+                        .asSequence()
+                        .get(0)
+                        .asMapping()
+                        .getScalarValue("d"));
+    }
+
+    private static Mapping construct(String yaml) {
+        final LoaderOptions options = new LoaderOptions();
+        return YamlUtils.construct(new Yaml(options).compose(new StringReader(yaml)), options);
+    }
+}
@@ -0,0 +1,90 @@
+package io.jenkins.plugins.casc;
+
+import static io.jenkins.plugins.casc.ConfigurationAsCode.CASC_JENKINS_CONFIG_PROPERTY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.jenkins.plugins.casc.misc.JenkinsConfiguredWithCodeRule;
+import io.jenkins.plugins.casc.misc.junit.jupiter.WithJenkinsConfiguredWithCode;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.jvnet.hudson.test.LogRecorder;
+
+@WithJenkinsConfiguredWithCode
+class AppliedConfigurationManifestTest {
+
+    @TempDir
+    Path folder;
+
+    private final LogRecorder logging = new LogRecorder()
+            .record(Logger.getLogger(ConfigurationAsCode.class.getName()), Level.INFO)
+            .capture(100);
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(CASC_JENKINS_CONFIG_PROPERTY);
+        System.clearProperty(AppliedConfigurationManifest.SKIP_UNCHANGED_PROPERTY);
+        System.clearProperty(AppliedConfigurationManifest.FORCE_PROPERTY);
+    }
+
+    @Test
+    void unchangedConfigurationIsSkippedOnStartup(JenkinsConfiguredWithCodeRule j) throws Exception {
+        Path config = folder.resolve("jenkins.yaml");
+        Files.writeString(config, "jenkins:\n  systemMessage: configured\n");
+        System.setProperty(CASC_JENKINS_CONFIG_PROPERTY, config.toString());
+        System.setProperty(AppliedConfigurationManifest.SKIP_UNCHANGED_PROPERTY, "true");
+
+        ConfigurationAsCode.init();
+        assertEquals("configured", j.jenkins.getSystemMessage());
+        assertTrue(new File(j.jenkins.getRootDir(), AppliedConfigurationManifest.FILE_NAME).exists());
+        assertEquals(0, skipped());
+
+        ConfigurationAsCode.init();
+        assertEquals(1, skipped());
+
+        // configured files changed since configuration was applied
+        j.jenkins.setSystemMessage("edited");
+        ConfigurationAsCode.init();
+        assertEquals(1, skipped());
+        assertEquals("configured", j.jenkins.getSystemMessage());
+
+        // configuration changed
+        Files.writeString(config, "jenkins:\n  systemMessage: changed\n");
+        ConfigurationAsCode.init();
+        assertEquals(1, skipped());
+        assertEquals("changed", j.jenkins.getSystemMessage());
+
+        System.setProperty(AppliedConfigurationManifest.FORCE_PROPERTY, "true");
+        ConfigurationAsCode.init();
+        assertEquals(1, skipped());
+    }
+
+    @Test
+    void manifestIsLeftAloneWhenDisabled(JenkinsConfiguredWithCodeRule j) throws Exception {
+        Path config = folder.resolve("jenkins.yaml");
+        Files.writeString(config, "jenkins:\n  systemMessage: configured\n");
+        System.setProperty(CASC_JENKINS_CONFIG_PROPERTY, config.toString());
+        System.setProperty(AppliedConfigurationManifest.SKIP_UNCHANGED_PROPERTY, "true");
+        ConfigurationAsCode.init();
+        final File manifest = new File(j.jenkins.getRootDir(), AppliedConfigurationManifest.FILE_NAME);
+        final String applied = Files.readString(manifest.toPath());
+
+        System.clearProperty(AppliedConfigurationManifest.SKIP_UNCHANGED_PROPERTY);
+        Files.writeString(config, "jenkins:\n  systemMessage: changed\n");
+        ConfigurationAsCode.init();
+        assertEquals("changed", j.jenkins.getSystemMessage());
+        assertEquals(applied, Files.readString(manifest.toPath()));
+    }
+
+    private long skipped() {
+        return logging.getMessages().stream()
+                .filter(m -> m.contains("didn't change since last applied"))
+                .count();
+    }
+}
@@ -14,6 +14,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assumptions.assumeFalse;
@@ -41,6 +43,11 @@ import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import jenkins.model.Jenkins;
+import net.sf.json.JSONObject;
 import org.htmlunit.WebRequest;
 import org.htmlunit.WebResponse;
 import org.htmlunit.html.HtmlButton;
@@ -348,6 +355,99 @@ class ConfigurationAsCodeTest {
         assertEquals(expectedDocString, actualDocString);
     }
 
+    @Test
+    void referenceModelIsReusedAndServedPerRoot(JenkinsConfiguredWithCodeRule j) throws Exception {
+        ConfigurationAsCode casc = ConfigurationAsCode.get();
+        ReferenceModel model = casc.getReferenceModel();
+        assertSame(model, casc.getReferenceModel());
+
+        ReferenceModel.Root jenkins = model.getRoot("jenkins");
+        assertNotNull(jenkins);
+        ReferenceModel.Entry root = jenkins.getConfigurators().get(0);
+        assertEquals("jenkins", root.getName());
+        assertTrue(root.isRootElement());
+        assertNull(model.getRoot("doesNotExist"));
+
+        WebClient wc = j.createWebClient();
+        HtmlPage page = wc.goTo("configuration-as-code/reference?root=jenkins");
+        assertNotNull(page.getElementById(root.getImplementedApi() + "-jenkins"));
+
+        wc.setThrowExceptionOnFailingStatusCode(false);
+        assertEquals(
+                404,
+                wc.goTo("configuration-as-code/reference?root=doesNotExist", null)
+                        .getWebResponse()
+                        .getStatusCode());
+    }
+
+    @Test
+    void referenceLinksPointToTheRootDocumentingTheConfigurator(JenkinsConfiguredWithCodeRule j) throws Exception {
+        ReferenceModel model = ConfigurationAsCode.get().getReferenceModel();
+        String link = null;
+        for (ReferenceModel.Root root : model.getRoots()) {
+            for (ReferenceModel.Entry entry : root.getConfigurators()) {
+                for (ReferenceModel.Property property : entry.getAttributes()) {
+                    for (String value : property.getPossibleValues()) {
+                        String candidate = model.getLink(property.getType(), value);
+                        if (candidate != null) {
+                            String owner = candidate.substring("?root=".length(), candidate.indexOf('#'));
+                            String id = candidate.substring(candidate.indexOf('#') + 1);
+                            assertTrue(
+                                    model.getRoot(owner).getConfigurators().stream()
+                                            .anyMatch(e -> e.getAnchor().equals(id)),
+                                    candidate);
+                            link = candidate;
+                        }
+                    }
+                }
+            }
+        }
+        assertNotNull(link);
+
+        HtmlPage page = j.createWebClient().goTo("configuration-as-code/reference" + link);
+        assertNotNull(page.getElementById(link.substring(link.indexOf('#') + 1)));
+    }
+
+    @Test
+    @ConfiguredWithCode("JenkinsConfigTest.yml")
+    void metricsAreRecordedForLastConfiguration(JenkinsConfiguredWithCodeRule j) throws Exception {
+        String content = j.createWebClient()
+                .goTo("configuration-as-code/metrics", "application/json")
+                .getWebResponse()
+                .getContentAsString();
+        JSONObject metrics = JSONObject.fromObject(content);
+
+        assertEquals(1, metrics.getJSONObject("roots").getJSONObject("jenkins").getInt("count"));
+        JSONObject jenkins = metrics.getJSONObject("configurators").getJSONObject(Jenkins.class.getName());
+        assertEquals(1, jenkins.getJSONObject("configure").getInt("count"));
+        assertEquals(1, jenkins.getJSONObject("save").getInt("count"));
+        assertTrue(jenkins.getJSONObject("setValue").getInt("count") > 0);
+    }
+
+    @Test
+    void lifecycleEventsAreRecorded(JenkinsConfiguredWithCodeRule j) throws Exception {
+        String source = getClass().getResource("JenkinsConfigTest.yml").toExternalForm();
+        Path dump = new File(tempFolder, "casc.jfr").toPath();
+        try (Recording recording = new Recording()) {
+            recording.enable("io.jenkins.plugins.casc.Fetch");
+            recording.enable("io.jenkins.plugins.casc.Parse");
+            recording.enable("io.jenkins.plugins.casc.Apply");
+            recording.start();
+            ConfigurationAsCode.get().configure(source);
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        assertTrue(events.stream()
+                .anyMatch(e -> e.getEventType().getName().equals("io.jenkins.plugins.casc.Fetch")
+                        && source.equals(e.getString("source"))));
+        assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("io.jenkins.plugins.casc.Parse")));
+        assertTrue(events.stream()
+                .anyMatch(e -> e.getEventType().getName().equals("io.jenkins.plugins.casc.Apply")
+                        && "jenkins".equals(e.getString("root"))));
+    }
+
     @Test
     void doCheckNewSource_should_catch_exceptions_on_invalid_yaml(JenkinsConfiguredWithCodeRule j) throws Exception {
         File brokenYaml = newFile(tempFolder, "broken.yaml");
@@ -0,0 +1,60 @@
+package io.jenkins.plugins.casc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.jenkins.plugins.casc.ConfigurationPlan.Action;
+import io.jenkins.plugins.casc.ConfigurationPlan.Change;
+import io.jenkins.plugins.casc.misc.JenkinsConfiguredWithCodeRule;
+import io.jenkins.plugins.casc.misc.junit.jupiter.WithJenkinsConfiguredWithCode;
+import io.jenkins.plugins.casc.yaml.YamlSource;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+@WithJenkinsConfiguredWithCode
+class ConfigurationPlanTest {
+
+    @Test
+    void planReportsChangedAttributesWithoutApplying(JenkinsConfiguredWithCodeRule j) throws Exception {
+        j.jenkins.setSystemMessage("current");
+        j.jenkins.setLabelString("");
+
+        ConfigurationPlan plan = plan("jenkins:\n  systemMessage: proposed\n  labelString: linux\n");
+
+        assertThat(plan.getChanges(), hasSize(2));
+        Change update = plan.getChanges().stream()
+                .filter(c -> c.getPath().equals("jenkins.systemMessage"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(Action.UPDATE, update.getAction());
+        assertEquals("current", update.getCurrent());
+        assertEquals("proposed", update.getProposed());
+
+        Change add = plan.getChanges().stream()
+                .filter(c -> c.getPath().equals("jenkins.labelString"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(Action.ADD, add.getAction());
+        assertNull(add.getCurrent());
+        assertEquals("linux", add.getProposed());
+
+        assertEquals("current", j.jenkins.getSystemMessage());
+        assertEquals("", j.jenkins.getLabelString());
+    }
+
+    @Test
+    void planIsEmptyWhenConfigurationMatches(JenkinsConfiguredWithCodeRule j) throws Exception {
+        j.jenkins.setSystemMessage("unchanged");
+
+        assertTrue(plan("jenkins:\n  systemMessage: unchanged\n").isEmpty());
+    }
+
+    private static ConfigurationPlan plan(String yaml) throws ConfiguratorException {
+        return ConfigurationAsCode.get()
+                .planWith(YamlSource.of(new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8))));
+    }
+}
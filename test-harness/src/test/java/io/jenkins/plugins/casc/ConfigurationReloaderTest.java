@@ -0,0 +1,82 @@
+package io.jenkins.plugins.casc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.jenkins.plugins.casc.misc.JenkinsConfiguredWithCodeRule;
+import io.jenkins.plugins.casc.misc.junit.jupiter.WithJenkinsConfiguredWithCode;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+@WithJenkinsConfiguredWithCode
+class ConfigurationReloaderTest {
+
+    @Test
+    void queuedReloadsAreCoalescedAndCanBeCancelled(JenkinsConfiguredWithCodeRule j) throws Exception {
+        ConfigurationReloader reloader = ConfigurationReloader.get();
+
+        ReloadJob first;
+        // holding the reloader lock keeps submitted reloads from starting
+        synchronized (reloader) {
+            first = reloader.submit("first");
+            assertSame(first, reloader.submit("second"));
+            assertEquals(1, first.getCoalesced());
+            assertTrue(first.cancel());
+        }
+        assertThrows(ConfiguratorException.class, first::await);
+        assertEquals(ReloadJob.Phase.CANCELLED, first.getPhase());
+
+        ReloadJob next = reloader.submit("next");
+        assertNotSame(first, next);
+        next.await();
+        assertEquals(ReloadJob.Phase.SUCCEEDED, next.getPhase());
+        assertFalse(next.cancel());
+        assertSame(next, reloader.getJob(next.getId()));
+    }
+
+    @Test
+    void debouncedReloadsAreCoalesced(JenkinsConfiguredWithCodeRule j) throws Exception {
+        ConfigurationReloader reloader = ConfigurationReloader.get();
+        long coalesced = reloader.toJSON().getLong("coalesced");
+
+        ReloadJob first = reloader.submit("first", 500);
+        ReloadJob second = reloader.submit("second", 500);
+        assertSame(first, second);
+        assertEquals(ReloadJob.Phase.QUEUED, first.getPhase());
+
+        second.await();
+        assertEquals(ReloadJob.Phase.SUCCEEDED, first.getPhase());
+        assertEquals(1, first.getCoalesced());
+        assertEquals(coalesced + 1, reloader.toJSON().getLong("coalesced"));
+    }
+
+    @Test
+    void cancellingDebouncedReloadDoesNotHoldBackNextOne(JenkinsConfiguredWithCodeRule j) throws Exception {
+        ConfigurationReloader reloader = ConfigurationReloader.get();
+
+        ReloadJob debounced = reloader.submit("debounced", 600_000);
+        assertTrue(debounced.cancel());
+
+        // reloads run one at a time, so this one only starts once the cancelled one stopped waiting
+        ReloadJob next = reloader.submit("next");
+        assertNotSame(debounced, next);
+        assertTimeoutPreemptively(Duration.ofSeconds(60), next::await);
+        assertEquals(ReloadJob.Phase.SUCCEEDED, next.getPhase());
+    }
+
+    @Test
+    void immediateReloadIsNotDebounced(JenkinsConfiguredWithCodeRule j) throws Exception {
+        ConfigurationReloader reloader = ConfigurationReloader.get();
+
+        ReloadJob debounced = reloader.submit("debounced", 600_000);
+        ReloadJob immediate = reloader.submit("immediate");
+        assertSame(debounced, immediate);
+        assertTimeoutPreemptively(Duration.ofSeconds(60), immediate::await);
+        assertEquals(ReloadJob.Phase.SUCCEEDED, debounced.getPhase());
+    }
+}
@@ -0,0 +1,113 @@
+package io.jenkins.plugins.casc;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.XmlFile;
+import io.jenkins.plugins.casc.misc.JenkinsConfiguredWithCodeRule;
+import io.jenkins.plugins.casc.misc.junit.jupiter.WithJenkinsConfiguredWithCode;
+import io.jenkins.plugins.casc.model.CNode;
+import io.jenkins.plugins.casc.yaml.YamlSource;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.util.Collections;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.TestExtension;
+
+@WithJenkinsConfiguredWithCode
+class ConfigurationTransactionTest {
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(ConfigurationTransaction.CASC_APPLY_TRANSACTIONAL_PROPERTY);
+        System.clearProperty(DeferredSaves.CASC_APPLY_DEFER_SAVES_PROPERTY);
+    }
+
+    @Test
+    void invalidConfigurationIsNotApplied(JenkinsConfiguredWithCodeRule j) throws Exception {
+        j.jenkins.setSystemMessage("before");
+        System.setProperty(ConfigurationTransaction.CASC_APPLY_TRANSACTIONAL_PROPERTY, "true");
+
+        // configuration is still checked before anything is applied
+        String yaml = "jenkins:\n  systemMessage: after\n  doesNotExist: true\n";
+        assertThrows(ConfiguratorException.class, () -> configureWith(yaml));
+
+        assertEquals("before", j.jenkins.getSystemMessage());
+    }
+
+    @Test
+    void failedConfigurationIsRolledBack(JenkinsConfiguredWithCodeRule j) throws Exception {
+        j.jenkins.setSystemMessage(null);
+        j.jenkins.setNumExecutors(2);
+        System.setProperty(ConfigurationTransaction.CASC_APPLY_TRANSACTIONAL_PROPERTY, "true");
+
+        // jenkins is applied before failOnApply, which passes the check but fails applying the configuration
+        String yaml = "jenkins:\n  systemMessage: after\n  numExecutors: 5\nfailOnApply: true\n";
+        assertThrows(ConfiguratorException.class, () -> configureWith(yaml));
+
+        assertEquals(2, j.jenkins.getNumExecutors());
+        // was null before, so missing from the recorded state
+        assertNull(j.jenkins.getSystemMessage());
+    }
+
+    @Test
+    void deferredSavesAreMadeWhenApplyingFails(JenkinsConfiguredWithCodeRule j) throws Exception {
+        j.jenkins.setSystemMessage("before");
+        System.setProperty(DeferredSaves.CASC_APPLY_DEFER_SAVES_PROPERTY, "true");
+
+        // without transaction, what was applied before the failure stays, so it has to be saved
+        String yaml = "jenkins:\n  systemMessage: after\nfailOnApply: true\n";
+        assertThrows(ConfiguratorException.class, () -> configureWith(yaml));
+
+        assertEquals("after", j.jenkins.getSystemMessage());
+        assertThat(new XmlFile(new File(j.jenkins.getRootDir(), "config.xml")).asString(), containsString("after"));
+    }
+
+    private static void configureWith(String yaml) throws ConfiguratorException {
+        ConfigurationAsCode.get().configureWith(YamlSource.of(new ByteArrayInputStream(yaml.getBytes(UTF_8))));
+    }
+
+    @TestExtension({"failedConfigurationIsRolledBack", "deferredSavesAreMadeWhenApplyingFails"})
+    public static class FailOnApplyConfigurator implements RootElementConfigurator<Boolean> {
+
+        @NonNull
+        @Override
+        public String getName() {
+            return "failOnApply";
+        }
+
+        @Override
+        public Class<Boolean> getTarget() {
+            return Boolean.class;
+        }
+
+        @NonNull
+        @Override
+        public Set<Attribute<Boolean, ?>> describe() {
+            return Collections.emptySet();
+        }
+
+        @NonNull
+        @Override
+        public Boolean configure(CNode config, ConfigurationContext context) throws ConfiguratorException {
+            throw new ConfiguratorException(this, "Failed to apply configuration");
+        }
+
+        @Override
+        public Boolean check(CNode config, ConfigurationContext context) {
+            return Boolean.TRUE;
+        }
+
+        @Override
+        public Boolean getTargetComponent(ConfigurationContext context) {
+            return Boolean.TRUE;
+        }
+    }
+}
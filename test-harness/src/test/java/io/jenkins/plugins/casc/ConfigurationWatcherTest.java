@@ -0,0 +1,97 @@
+package io.jenkins.plugins.casc;
+
+import static io.jenkins.plugins.casc.ConfigurationAsCode.CASC_JENKINS_CONFIG_PROPERTY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.jenkins.plugins.casc.misc.JenkinsConfiguredWithCodeRule;
+import io.jenkins.plugins.casc.misc.junit.jupiter.WithJenkinsConfiguredWithCode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@WithJenkinsConfiguredWithCode
+class ConfigurationWatcherTest {
+
+    @TempDir
+    Path folder;
+
+    @AfterEach
+    void tearDown() {
+        ConfigurationWatcher.get().stop();
+        System.clearProperty(CASC_JENKINS_CONFIG_PROPERTY);
+        System.clearProperty(ConfigurationWatcher.WATCH_PROPERTY);
+        System.clearProperty(ConfigurationWatcher.WATCH_INTERVAL_PROPERTY);
+        System.clearProperty(ConfigurationWatcher.WATCH_DEBOUNCE_PROPERTY);
+    }
+
+    @Test
+    void changedSourcesAreReloaded(JenkinsConfiguredWithCodeRule j) throws Exception {
+        Path config = folder.resolve("jenkins.yaml");
+        Files.writeString(config, "jenkins:\n  systemMessage: before\n");
+        System.setProperty(CASC_JENKINS_CONFIG_PROPERTY, folder.toString());
+        System.setProperty(ConfigurationWatcher.WATCH_PROPERTY, "poll");
+        System.setProperty(ConfigurationWatcher.WATCH_INTERVAL_PROPERTY, "50");
+        System.setProperty(ConfigurationWatcher.WATCH_DEBOUNCE_PROPERTY, "0");
+
+        ConfigurationAsCode.get().configure();
+        assertEquals("before", j.jenkins.getSystemMessage());
+
+        ConfigurationWatcher.get().start();
+        // keep writing, as changes made before the watcher looked at the sources for the first time go unnoticed
+        for (int i = 0; i < 200 && !"after".equals(j.jenkins.getSystemMessage()); i++) {
+            Files.writeString(config, "jenkins:\n  systemMessage: after\n");
+            Thread.sleep(50);
+        }
+        assertEquals("after", j.jenkins.getSystemMessage());
+    }
+
+    @Test
+    void directoryDeletedBeforeBeingWatchedIsIgnored(JenkinsConfiguredWithCodeRule j) throws Exception {
+        Path config = folder.resolve("jenkins.yaml");
+        Files.writeString(config, "jenkins:\n  systemMessage: before\n");
+        try (ConfigurationWatcher.Notify notify = new ConfigurationWatcher.Notify(List.of(folder))) {
+            // created, then deleted before the creation is handled
+            Path directory = Files.createDirectory(folder.resolve("transient"));
+            Files.delete(directory);
+            notify.registerCreated(directory);
+
+            Files.writeString(config, "jenkins:\n  systemMessage: after\n");
+            Set<Path> changed = new HashSet<>();
+            for (int i = 0; i < 100 && !changed.contains(config); i++) {
+                changed.addAll(notify.changes(50));
+            }
+            assertTrue(changed.contains(config));
+        }
+    }
+
+    @Test
+    void watcherSurvivesDirectoriesCreatedAndDeleted(JenkinsConfiguredWithCodeRule j) throws Exception {
+        Path config = folder.resolve("jenkins.yaml");
+        Files.writeString(config, "jenkins:\n  systemMessage: before\n");
+        System.setProperty(CASC_JENKINS_CONFIG_PROPERTY, folder.toString());
+        System.setProperty(ConfigurationWatcher.WATCH_PROPERTY, "true");
+        System.setProperty(ConfigurationWatcher.WATCH_INTERVAL_PROPERTY, "50");
+        System.setProperty(ConfigurationWatcher.WATCH_DEBOUNCE_PROPERTY, "0");
+
+        ConfigurationAsCode.get().configure();
+        ConfigurationWatcher.get().start();
+        for (int i = 0; i < 500; i++) {
+            Path directory = Files.createDirectories(folder.resolve("transient/nested"));
+            Files.delete(directory);
+            Files.delete(directory.getParent());
+        }
+        assertTrue(ConfigurationWatcher.get().isRunning());
+
+        for (int i = 0; i < 200 && !"after".equals(j.jenkins.getSystemMessage()); i++) {
+            Files.writeString(config, "jenkins:\n  systemMessage: after\n");
+            Thread.sleep(50);
+        }
+        assertEquals("after", j.jenkins.getSystemMessage());
+    }
+}
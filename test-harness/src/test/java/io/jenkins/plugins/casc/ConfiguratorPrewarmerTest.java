@@ -0,0 +1,28 @@
+package io.jenkins.plugins.casc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import io.jenkins.plugins.casc.misc.JenkinsConfiguredWithCodeRule;
+import io.jenkins.plugins.casc.misc.junit.jupiter.WithJenkinsConfiguredWithCode;
+import org.junit.jupiter.api.Test;
+
+@WithJenkinsConfiguredWithCode
+class ConfiguratorPrewarmerTest {
+
+    @Test
+    void configuratorsArePrewarmed(JenkinsConfiguredWithCodeRule j) {
+        final ConfiguratorPrewarmer prewarmer = ConfiguratorPrewarmer.get();
+        // disabled by default, so not started on startup
+        assertThat(prewarmer.getWarmed(), nullValue());
+
+        prewarmer.start();
+        prewarmer.await();
+
+        final Integer warmed = prewarmer.getWarmed();
+        assertThat(warmed, notNullValue());
+        assertThat(warmed, greaterThan(0));
+    }
+}
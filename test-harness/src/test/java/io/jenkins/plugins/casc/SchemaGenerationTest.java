@@ -6,17 +6,28 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import hudson.Extension;
 import io.jenkins.plugins.casc.misc.JenkinsConfiguredWithCodeRule;
 import io.jenkins.plugins.casc.misc.junit.jupiter.WithJenkinsConfiguredWithCode;
+import java.net.HttpURLConnection;
+import java.net.URL;
 import java.util.List;
+import java.util.Set;
 import jenkins.model.GlobalConfiguration;
 import org.jenkinsci.Symbol;
+import org.htmlunit.HttpMethod;
+import org.htmlunit.WebRequest;
+import org.htmlunit.WebResponse;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
 import org.kohsuke.stapler.DataBoundConstructor;
 import org.kohsuke.stapler.DataBoundSetter;
 
@@ -138,6 +149,130 @@ class SchemaGenerationTest {
         assertThat(validateSchema(convertYamlFileToJson(this, "validArraySchemaConfig.yml")), empty());
     }
 
+    @Test
+    void schemaIsCachedAndServedWithEtag(JenkinsConfiguredWithCodeRule j) throws Exception {
+        SchemaGeneration.Schema schema = SchemaGeneration.getSchema();
+        assertSame(schema, SchemaGeneration.getSchema(), "schema should be reused while plugins are unchanged");
+        assertNotEquals(schema.etag(), schema.gzipEtag());
+
+        JenkinsRule.WebClient wc = j.createWebClient();
+        WebRequest request = new WebRequest(new URL(j.getURL() + "configuration-as-code/schema"), HttpMethod.GET);
+        request.setAdditionalHeader("Accept-Encoding", "identity");
+        WebResponse response = wc.getPage(request).getWebResponse();
+        assertEquals(HttpURLConnection.HTTP_OK, response.getStatusCode());
+        assertEquals(schema.etag(), response.getResponseHeaderValue("ETag"));
+        assertEquals("Accept-Encoding", response.getResponseHeaderValue("Vary"));
+        assertEquals(
+                "Jenkins Configuration as Code",
+                new JSONObject(response.getContentAsString()).getString("description"));
+
+        request.setAdditionalHeader("If-None-Match", schema.etag());
+        assertEquals(
+                HttpURLConnection.HTTP_NOT_MODIFIED,
+                wc.getPage(request).getWebResponse().getStatusCode());
+
+        // the identity representation doesn't match the compressed one
+        request.setAdditionalHeader("Accept-Encoding", "gzip");
+        response = wc.getPage(request).getWebResponse();
+        assertEquals(HttpURLConnection.HTTP_OK, response.getStatusCode());
+        assertEquals(schema.gzipEtag(), response.getResponseHeaderValue("ETag"));
+
+        request.setAdditionalHeader("If-None-Match", schema.gzipEtag());
+        assertEquals(
+                HttpURLConnection.HTTP_NOT_MODIFIED,
+                wc.getPage(request).getWebResponse().getStatusCode());
+    }
+
+    @Test
+    void gzipIsOnlyServedWhenAccepted(JenkinsConfiguredWithCodeRule j) {
+        assertTrue(ConfigurationAsCode.acceptsGzip("gzip, deflate, br"));
+        assertTrue(ConfigurationAsCode.acceptsGzip("br;q=1.0, gzip;q=0.8"));
+        assertTrue(ConfigurationAsCode.acceptsGzip("*"));
+        assertFalse(ConfigurationAsCode.acceptsGzip(null));
+        assertFalse(ConfigurationAsCode.acceptsGzip("identity"));
+        assertFalse(ConfigurationAsCode.acceptsGzip("gzip;q=0"));
+        assertFalse(ConfigurationAsCode.acceptsGzip("gzip; q=0.0, identity"));
+        assertFalse(ConfigurationAsCode.acceptsGzip("*, gzip;q=0"));
+        assertFalse(ConfigurationAsCode.acceptsGzip("*;q=0"));
+    }
+
+    @Test
+    void streamedSchemaIsConsistent(JenkinsConfiguredWithCodeRule j) {
+        // parsing fails on duplicate keys, so each root element and definition is written once
+        JSONObject schema = new JSONObject(SchemaGeneration.writeJSONSchema());
+        assertEquals(
+                Set.of("$schema", "additionalProperties", "definitions", "description", "properties", "type"),
+                schema.keySet());
+        JSONObject definitions = schema.getJSONObject("definitions");
+
+        JSONObject roots = schema.getJSONObject("properties");
+        assertTrue(roots.keySet().containsAll(List.of("jenkins", "security", "tool", "unclassified")));
+        for (String root : roots.keySet()) {
+            JSONObject element = roots.getJSONObject(root);
+            assertEquals("object", element.getString("type"), root);
+            assertFalse(element.getBoolean("additionalProperties"), root);
+            assertEquals("Configuration base for the " + root + " classifier", element.getString("title"));
+            assertNotNull(element.getJSONObject("properties"), root);
+        }
+
+        // root elements are written inline
+        JSONObject jenkins = roots.getJSONObject("jenkins").getJSONObject("properties");
+        assertEquals("integer", jenkins.getJSONObject("numExecutors").getString("type"));
+        assertEquals("string", jenkins.getJSONObject("systemMessage").getString("type"));
+
+        // referenced classes are defined
+        JSONObject crumbIssuer = jenkins.getJSONObject("crumbIssuer");
+        assertEquals("#/definitions/hudson.security.csrf.CrumbIssuer", crumbIssuer.getString("$ref"));
+        assertReferencesAreDefined(schema, definitions);
+
+        // hetero describables allow a single implementation, by symbol
+        JSONObject hetero = definitions.getJSONObject("hudson.security.csrf.CrumbIssuer");
+        assertEquals(1, hetero.getInt("minProperties"));
+        assertEquals(1, hetero.getInt("maxProperties"));
+        JSONObject implementations = hetero.getJSONObject("properties");
+        assertEquals(
+                "#/definitions/hudson.security.csrf.DefaultCrumbIssuer",
+                implementations.getJSONObject("standard").getString("$ref"));
+        JSONArray oneOf = hetero.getJSONArray("oneOf");
+        assertEquals(implementations.length(), oneOf.length());
+        for (int i = 0; i < oneOf.length(); i++) {
+            String symbol = oneOf.getJSONObject(i).getJSONArray("required").getString(0);
+            assertTrue(implementations.has(symbol), symbol);
+        }
+
+        // implementations are described by their attributes
+        JSONObject standard = definitions.getJSONObject("hudson.security.csrf.DefaultCrumbIssuer");
+        assertEquals("object", standard.getString("type"));
+        assertFalse(standard.getBoolean("additionalProperties"));
+        assertEquals(
+                "boolean",
+                standard.getJSONObject("properties")
+                        .getJSONObject("excludeClientIPFromCrumb")
+                        .getString("type"));
+    }
+
+    /**
+     * Every {@code $ref} of the schema must point to a definition.
+     */
+    private static void assertReferencesAreDefined(Object node, JSONObject definitions) {
+        if (node instanceof JSONObject object) {
+            for (String key : object.keySet()) {
+                Object value = object.get(key);
+                if (key.equals("$ref")) {
+                    String ref = (String) value;
+                    assertTrue(ref.startsWith("#/definitions/"), ref);
+                    assertTrue(definitions.has(ref.substring("#/definitions/".length())), ref + " isn't defined");
+                } else {
+                    assertReferencesAreDefined(value, definitions);
+                }
+            }
+        } else if (node instanceof JSONArray array) {
+            for (Object item : array) {
+                assertReferencesAreDefined(item, definitions);
+            }
+        }
+    }
+
     //    For testing manually
     //    @Test
     //    public void writeSchema() throws Exception {
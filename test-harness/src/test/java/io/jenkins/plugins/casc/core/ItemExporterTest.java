@@ -1,18 +1,22 @@
 package io.jenkins.plugins.casc.core;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import hudson.model.FreeStyleProject;
+import hudson.model.ItemGroup;
 import io.jenkins.plugins.casc.ConfigurationContext;
 import io.jenkins.plugins.casc.ConfiguratorRegistry;
 import io.jenkins.plugins.casc.model.CNode;
 import io.jenkins.plugins.casc.model.Mapping;
 import io.jenkins.plugins.casc.model.Sequence;
+import java.io.StringWriter;
 import org.junit.Rule;
 import org.junit.Test;
 import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.MockFolder;
 
 public class ItemExporterTest {
 
@@ -44,4 +48,28 @@ public class ItemExporterTest {
         assertNotNull("Freestyle properties should not be null", freestyleProps.get("name"));
         assertEquals("test-job", freestyleProps.getScalarValue("name"));
     }
+
+    @Test
+    public void testExportFolderSubtree() throws Exception {
+        j.createFreeStyleProject("root-job");
+        MockFolder folder = j.createFolder("folder");
+        folder.createProject(FreeStyleProject.class, "nested-job");
+        MockFolder subFolder = folder.createProject(MockFolder.class, "sub");
+        subFolder.createProject(FreeStyleProject.class, "deep-job");
+        ConfigurationContext context = new ConfigurationContext(ConfiguratorRegistry.get());
+
+        ItemExporter exporter = new ItemExporter();
+        StringWriter all = new StringWriter();
+        assertEquals(3, exporter.export(j.jenkins, context, all));
+        assertTrue(all.toString().startsWith("items:"));
+        assertTrue(all.toString().contains("name: \"root-job\""));
+        assertTrue(all.toString().contains("name: \"deep-job\""));
+
+        ItemGroup<?> group = ItemExporter.lookupItemGroup("folder");
+        assertEquals(folder, group);
+        StringWriter nested = new StringWriter();
+        assertEquals(2, exporter.export(group, context, nested));
+        assertTrue(nested.toString().contains("name: \"nested-job\""));
+        assertFalse(nested.toString().contains("name: \"root-job\""));
+    }
 }
@@ -24,7 +24,15 @@ import io.jenkins.plugins.casc.model.CNode;
 import io.jenkins.plugins.casc.model.Mapping;
 import io.jenkins.plugins.casc.model.Scalar;
 import io.jenkins.plugins.casc.model.Sequence;
+import io.jenkins.plugins.casc.yaml.StreamedSequence;
+import io.jenkins.plugins.casc.yaml.YamlSource;
+import io.jenkins.plugins.casc.yaml.YamlUtils;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
 import java.util.Set;
 import jenkins.model.Jenkins;
 import org.junit.Rule;
@@ -271,4 +279,96 @@ public class ItemsRootConfiguratorTest {
                 "Message did not match. Got: " + e.getMessage(),
                 e.getMessage().contains("No ItemConfigurator found for type: unknown_type"));
     }
+
+    @Test
+    public void shouldStreamItems() throws Exception {
+        System.setProperty(ConfigurationContext.CASC_YAML_STREAMING_PROPERTY, "true");
+        try {
+            String source = requireNonNull(getClass().getResource("ItemsRootConfiguratorTest_streamed.yml"))
+                    .toExternalForm();
+            ConfigurationContext context = new ConfigurationContext(ConfiguratorRegistry.get());
+            Mapping model = YamlUtils.loadFrom(List.of(YamlSource.of(source)), context);
+            assertTrue(model.get("items") instanceof StreamedSequence);
+            assertEquals(2, model.get("items").asSequence().size());
+
+            get().configure(source);
+        } finally {
+            System.clearProperty(ConfigurationContext.CASC_YAML_STREAMING_PROPERTY);
+        }
+
+        assertEquals("Items are streamed", j.jenkins.getSystemMessage());
+        assertEquals(
+                "first",
+                j.jenkins.getItemByFullName("first-streamed-job", FreeStyleProject.class)
+                        .getDescription());
+        assertEquals(
+                "shared",
+                j.jenkins.getItemByFullName("second-streamed-job", FreeStyleProject.class)
+                        .getDescription());
+    }
+
+    @Test
+    public void shouldFailStreamingItemsOfChangedSource() throws Exception {
+        Path file = Files.createTempFile("streamed", ".yml");
+        try (InputStream in =
+                requireNonNull(getClass().getResourceAsStream("ItemsRootConfiguratorTest_streamed.yml"))) {
+            Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        System.setProperty(ConfigurationContext.CASC_YAML_STREAMING_PROPERTY, "true");
+        try {
+            ConfigurationContext context = new ConfigurationContext(ConfiguratorRegistry.get());
+            Mapping model = YamlUtils.loadFrom(List.of(YamlSource.of(file.toUri().toString())), context);
+            CNode items = model.get("items");
+            assertTrue(items instanceof StreamedSequence);
+
+            // items read again must be the ones which were checked
+            Files.writeString(file, Files.readString(file).replace("first-streamed-job", "changed-streamed-job"));
+            ConfiguratorException e =
+                    assertThrows(ConfiguratorException.class, () -> StreamedSequence.forEach(items, item -> {}));
+            assertTrue(e.getMessage(), e.getMessage().contains("changed since configuration was read"));
+        } finally {
+            System.clearProperty(ConfigurationContext.CASC_YAML_STREAMING_PROPERTY);
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void shouldStreamItemsReferringToAnchors() throws Exception {
+        System.setProperty(ConfigurationContext.CASC_YAML_STREAMING_PROPERTY, "true");
+        try {
+            get().configure(requireNonNull(getClass().getResource("ItemsRootConfiguratorTest_streamedAnchors.yml"))
+                    .toExternalForm());
+        } finally {
+            System.clearProperty(ConfigurationContext.CASC_YAML_STREAMING_PROPERTY);
+        }
+
+        assertEquals(
+                "defined outside of items",
+                j.jenkins.getItemByFullName("anchored-job", FreeStyleProject.class)
+                        .getDescription());
+    }
+
+    @Test
+    public void shouldReadItemsDefiningAnchorsAtOnce() throws Exception {
+        System.setProperty(ConfigurationContext.CASC_YAML_STREAMING_PROPERTY, "true");
+        try {
+            String source = requireNonNull(
+                            getClass().getResource("ItemsRootConfiguratorTest_streamedAnchorsUsedOutside.yml"))
+                    .toExternalForm();
+            ConfigurationContext context = new ConfigurationContext(ConfiguratorRegistry.get());
+            Mapping model = YamlUtils.loadFrom(List.of(YamlSource.of(source)), context);
+            // the anchor is used outside of items, which therefore can't be streamed
+            assertFalse(model.get("items") instanceof StreamedSequence);
+
+            get().configure(source);
+        } finally {
+            System.clearProperty(ConfigurationContext.CASC_YAML_STREAMING_PROPERTY);
+        }
+
+        assertEquals("defined in items", j.jenkins.getSystemMessage());
+        assertEquals(
+                "defined in items",
+                j.jenkins.getItemByFullName("anchored-job", FreeStyleProject.class)
+                        .getDescription());
+    }
 }
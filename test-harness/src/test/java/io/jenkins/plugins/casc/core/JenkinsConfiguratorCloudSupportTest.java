@@ -7,10 +7,13 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import hudson.Extension;
 import hudson.model.Descriptor;
 import hudson.model.Node;
+import hudson.model.Slave;
 import hudson.model.TaskListener;
 import hudson.slaves.AbstractCloudComputer;
 import hudson.slaves.AbstractCloudSlave;
@@ -94,6 +97,22 @@ class JenkinsConfiguratorCloudSupportTest {
         assertNotNull(j.jenkins.getNode("testCloud"), "Slave cloud");
     }
 
+    @Test
+    @ConfiguredWithCode("JenkinsConfiguratorCloudSupportTest.yml")
+    void should_only_replace_changed_nodes_after_reload(JenkinsConfiguredWithCodeRule j) throws Exception {
+        final Node agent1 = j.jenkins.getNode("agent1");
+        final Node agent2 = j.jenkins.getNode("agent2");
+
+        ConfigurationAsCode.get()
+                .configure(this.getClass()
+                        .getResource("JenkinsConfiguratorCloudSupportTest_changed.yml")
+                        .toString());
+        assertEquals(2, j.jenkins.getNodes().size(), "Base nodes not found");
+        assertSame(agent1, j.jenkins.getNode("agent1"), "Unchanged node was replaced");
+        assertNotSame(agent2, j.jenkins.getNode("agent2"), "Changed node was not replaced");
+        assertEquals("/home/user2", ((Slave) j.jenkins.getNode("agent2")).getRemoteFS());
+    }
+
     @Test
     @ConfiguredWithCode("JenkinsConfiguratorCloudSupportTest.yml")
     void should_export_only_static_nodes(JenkinsConfiguredWithCodeRule j) throws Exception {
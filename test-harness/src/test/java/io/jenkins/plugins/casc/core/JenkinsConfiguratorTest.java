@@ -7,10 +7,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import hudson.EnvVars;
 import hudson.model.TaskListener;
+import hudson.model.User;
 import hudson.model.labels.LabelAtom;
 import hudson.model.labels.LabelAtomProperty;
 import hudson.model.labels.LabelAtomPropertyDescriptor;
@@ -104,6 +107,23 @@ class JenkinsConfiguratorTest {
         assertEquals(3, label2.getProperties().get(TestProperty.class).value);
     }
 
+    @Test
+    @ConfiguredWithCode("LocalUsers.yml")
+    void shouldOnlyUpdateChangedLocalUsers(JenkinsConfiguredWithCodeRule j) throws Exception {
+        final User admin = Objects.requireNonNull(User.getById("admin", false));
+        final User dev = Objects.requireNonNull(User.getById("dev", false));
+        assertEquals("Admin", admin.getFullName());
+        assertEquals("Developer", dev.getDescription());
+        final HudsonPrivateSecurityRealm.Details details = admin.getProperty(HudsonPrivateSecurityRealm.Details.class);
+        assertTrue(details.isPasswordCorrect("somethingsecret"));
+        assertTrue(dev.getProperty(HudsonPrivateSecurityRealm.Details.class).isPasswordCorrect("anothersecret"));
+
+        // hashes are salted, so a password hashed again would not be the same
+        ConfigurationAsCode.get().configure(getClass().getResource("LocalUsers.yml").toString());
+        assertSame(details, admin.getProperty(HudsonPrivateSecurityRealm.Details.class));
+        assertEquals("Admin", admin.getFullName());
+    }
+
     public static class TestProperty extends LabelAtomProperty {
 
         public final int value;
@@ -0,0 +1,50 @@
+package io.jenkins.plugins.casc.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import hudson.model.User;
+import hudson.security.HudsonPrivateSecurityRealm;
+import io.jenkins.plugins.casc.ConfigurationContext;
+import io.jenkins.plugins.casc.ConfiguratorRegistry;
+import java.io.StringWriter;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+
+public class UserExporterTest {
+
+    @Rule
+    public JenkinsRule j = new JenkinsRule();
+
+    @After
+    public void tearDown() {
+        System.clearProperty(UserExporter.EXPORT_PAGE_SIZE_PROPERTY);
+    }
+
+    @Test
+    public void testExportUsersInPages() throws Exception {
+        HudsonPrivateSecurityRealm realm = new HudsonPrivateSecurityRealm(false, false, null);
+        j.jenkins.setSecurityRealm(realm);
+        for (int i = 0; i < 5; i++) {
+            User user = realm.createAccount("user" + i, "password" + i);
+            user.setDescription("User number " + i);
+        }
+        System.setProperty(UserExporter.EXPORT_PAGE_SIZE_PROPERTY, "2");
+        ConfigurationContext context = new ConfigurationContext(ConfiguratorRegistry.get());
+
+        StringWriter all = new StringWriter();
+        assertEquals(5, new UserExporter().export(realm, context, all, false));
+        assertTrue(all.toString().startsWith("jenkins:"));
+        assertTrue(all.toString().contains("id: \"user0\""));
+        assertTrue(all.toString().contains("id: \"user4\""));
+        assertTrue(all.toString().contains("description: \"User number 4\""));
+
+        StringWriter ids = new StringWriter();
+        assertEquals(5, new UserExporter().export(realm, context, ids, true));
+        assertTrue(ids.toString().contains("id: \"user3\""));
+        assertFalse(ids.toString().contains("description"));
+    }
+}
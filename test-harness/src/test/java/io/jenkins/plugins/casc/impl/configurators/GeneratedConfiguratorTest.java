@@ -0,0 +1,166 @@
+package io.jenkins.plugins.casc.impl.configurators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import hudson.util.Secret;
+import io.jenkins.plugins.casc.ConfigurationContext;
+import io.jenkins.plugins.casc.Configurator;
+import io.jenkins.plugins.casc.ConfiguratorException;
+import io.jenkins.plugins.casc.ConfiguratorRegistry;
+import io.jenkins.plugins.casc.GenerateConfigurator;
+import io.jenkins.plugins.casc.model.CNode;
+import io.jenkins.plugins.casc.model.Mapping;
+import io.jenkins.plugins.casc.model.Scalar;
+import io.jenkins.plugins.casc.model.Sequence;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.PostConstruct;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.DataBoundSetter;
+
+@WithJenkins
+class GeneratedConfiguratorTest {
+
+    private ConfiguratorRegistry registry;
+
+    @BeforeEach
+    void setUp(JenkinsRule j) {
+        registry = ConfiguratorRegistry.get();
+    }
+
+    @Test
+    void generatedConfiguratorIsPreferred() {
+        final Configurator<Generated> c = registry.lookup(Generated.class);
+        assertInstanceOf(GeneratedConfigurator.class, c);
+        assertEquals(
+                "io.jenkins.plugins.casc.impl.configurators.GeneratedConfiguratorTest_Generated_CascConfigurator",
+                c.getClass().getName());
+
+        // no configurator generated, so configured by reflection
+        assertFalse(registry.lookup(Reflective.class) instanceof GeneratedConfigurator);
+        assertNull(GeneratedConfigurator.load(Reflective.class));
+    }
+
+    @Test
+    void configure() throws Exception {
+        Mapping config = new Mapping();
+        config.put("name", "generated");
+        config.put("count", "3");
+        Sequence tags = new Sequence();
+        tags.add(new Scalar("b"));
+        tags.add(new Scalar("a"));
+        config.put("tags", tags);
+        config.put("password", "s3cr3t");
+        config.put("enabled", "true");
+
+        final Configurator<Generated> c = registry.lookupOrFail(Generated.class);
+        final Generated configured = c.configure(config, new ConfigurationContext(registry));
+        assertEquals("generated", configured.getName());
+        assertEquals(3, configured.getCount());
+        assertEquals(Set.of("a", "b"), configured.getTags());
+        assertEquals("s3cr3t", configured.getPassword().getPlainText());
+        assertTrue(configured.isEnabled());
+        assertTrue(configured.initialized);
+    }
+
+    @Test
+    void configureWithDefaults() throws Exception {
+        Mapping config = new Mapping();
+        config.put("name", "generated");
+
+        final Configurator<Generated> c = registry.lookupOrFail(Generated.class);
+        final Generated configured = c.configure(config, new ConfigurationContext(registry));
+        assertEquals(0, configured.getCount());
+        assertEquals(Set.of(), configured.getTags());
+        assertFalse(configured.isEnabled());
+    }
+
+    @Test
+    void missingRequiredParameter() {
+        final Configurator<Generated> c = registry.lookup(Generated.class);
+        final ConfiguratorException e = assertThrows(
+                ConfiguratorException.class, () -> c.configure(new Mapping(), new ConfigurationContext(registry)));
+        assertEquals("name is required to configure " + Generated.class, e.getMessage());
+    }
+
+    @Test
+    void export() throws Exception {
+        Generated generated = new Generated("generated", 42, List.of("a"));
+        generated.setEnabled(true);
+        final Configurator<Generated> c = registry.lookup(Generated.class);
+        final CNode node = c.describe(generated, new ConfigurationContext(registry));
+        final Mapping map = assertInstanceOf(Mapping.class, node);
+        assertEquals("generated", map.getScalarValue("name"));
+        assertEquals("42", map.getScalarValue("count"));
+        assertEquals("a", map.get("tags").asSequence().get(0).asScalar().getValue());
+        assertEquals("true", map.getScalarValue("enabled"));
+        assertFalse(map.containsKey("password"));
+    }
+
+    @GenerateConfigurator
+    public static class Generated {
+        private final String name;
+        private final int count;
+        private final Set<String> tags;
+        private Secret password;
+        private boolean enabled;
+        boolean initialized;
+
+        @DataBoundConstructor
+        public Generated(@Nonnull String name, int count, @Nonnull List<String> tags) {
+            this.name = name;
+            this.count = count;
+            this.tags = Set.copyOf(tags);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public Set<String> getTags() {
+            return tags;
+        }
+
+        public Secret getPassword() {
+            return password;
+        }
+
+        @DataBoundSetter
+        public void setPassword(Secret password) {
+            this.password = password;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        @DataBoundSetter
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        @PostConstruct
+        public void init() {
+            this.initialized = true;
+        }
+    }
+
+    public static class Reflective {
+        @DataBoundConstructor
+        public Reflective(String name) {}
+    }
+}